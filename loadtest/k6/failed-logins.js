@@ -0,0 +1,67 @@
+// Failed-login throughput test (credential stuffing shape).
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e RATE=1000 loadtest/k6/failed-logins.js
+//
+// Mixes unknown usernames, known usernames with wrong passwords and a blocked account,
+// and checks that each attempt is redirected back to /login with an error.
+// Pass BLOCKED_USER to include a blocked account in the mix. KNOWN_USERS defaults to accounts
+// from data.sql; against a DatasetGenerator database pass e.g. KNOWN_USERS=admin.
+//
+// All traffic comes from one address, so past app.security.login-rate-limit.ip.max-attempts per
+// window the limiter answers /login?error=rate_limited without hashing. Those responses pass the
+// check and are counted in rate_limited_logins. To measure the hashing path itself, start the
+// application with --app.security.login-rate-limit.enabled=false.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = parseInt(__ENV.RATE || '1000', 10);
+const DURATION = __ENV.DURATION || '1m';
+const KNOWN_USERS = (__ENV.KNOWN_USERS || 'admin1,manager1,emp1').split(',');
+const BLOCKED_USER = __ENV.BLOCKED_USER;
+
+const rateLimited = new Rate('rate_limited_logins');
+
+export const options = {
+    scenarios: {
+        failed_logins: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(50, RATE / 4),
+            maxVUs: RATE * 2,
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(99)<500'],
+    },
+};
+
+function pickUsername() {
+    const roll = Math.random();
+    if (BLOCKED_USER && roll < 0.1) {
+        return BLOCKED_USER;
+    }
+    if (roll < 0.5) {
+        return KNOWN_USERS[Math.floor(Math.random() * KNOWN_USERS.length)];
+    }
+    return 'unknown' + Math.floor(Math.random() * 1000000);
+}
+
+export default function () {
+    const response = http.post(`${BASE_URL}/login`, {
+        username: pickUsername(),
+        password: 'wrong-' + Math.random().toString(36).slice(2),
+    }, { redirects: 0 });
+
+    const location = response.headers['Location'] || '';
+    const limited = response.status === 302 && location.includes('/login?error=rate_limited');
+    rateLimited.add(limited);
+    check(response, {
+        'redirected to login error': (r) => r.status === 302
+            && (limited || location.includes('/login?error=true')),
+    });
+}
@@ -0,0 +1,93 @@
+// Mixed load test: logins (CPU-bound BCrypt) running alongside list-page browsing (I/O-bound).
+//
+//   k6 run -e BASE_URL=http://localhost:8080 loadtest/k6/mixed-login-browse.js
+//
+// The login scenario drives successful logins at LOGIN_RATE per minute, taking USERS in turn.
+// USERS and PASSWORD default to the sample accounts in data.sql; against a DatasetGenerator
+// database pass e.g. USERS=admin PASSWORD=password123. The browse scenario signs in once in setup,
+// shares that session across VUs and walks the employee, account, project and department lists at
+// BROWSE_RATE/s. Browse latency should stay flat as LOGIN_RATE grows; watch executor.queued and
+// executor.active (tag name=passwordHashing) on http://localhost:8081/actuator/metrics while it runs.
+//
+// Every attempt counts against app.security.login-rate-limit.*: by default 10 per username per
+// 5 minutes and 100 per address per minute, and all traffic here comes from one address. The
+// default LOGIN_RATE, one login per user per minute, stays under both. Higher rates are answered
+// /login?error=rate_limited without hashing and fail the check; to load the hashing pool, start
+// the application with --app.security.login-rate-limit.enabled=false and raise LOGIN_RATE.
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = (__ENV.USERS || 'admin1,admin2,manager1,emp1,emp2,emp3,emp4,emp5').split(',');
+const PASSWORD = __ENV.PASSWORD || '123456';
+const LOGIN_RATE = parseInt(__ENV.LOGIN_RATE || String(USERS.length), 10);
+const BROWSE_RATE = parseInt(__ENV.BROWSE_RATE || '500', 10);
+const DURATION = __ENV.DURATION || '2m';
+const LIST_PAGES = ['/employees', '/accounts', '/projects', '/departments'];
+
+export const options = {
+    scenarios: {
+        logins: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: LOGIN_RATE,
+            timeUnit: '1m',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(20, Math.ceil(LOGIN_RATE / 60)),
+            maxVUs: Math.max(20, Math.ceil(LOGIN_RATE / 15)),
+        },
+        browse: {
+            executor: 'constant-arrival-rate',
+            exec: 'browse',
+            rate: BROWSE_RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(50, BROWSE_RATE / 4),
+            maxVUs: BROWSE_RATE * 2,
+        },
+    },
+    thresholds: {
+        'http_req_duration{scenario:browse}': ['p(95)<300', 'p(99)<800'],
+        'http_req_duration{scenario:logins}': ['p(99)<2000'],
+        'checks{scenario:browse}': ['rate>0.99'],
+    },
+};
+
+function postLogin(username, jar) {
+    return http.post(`${BASE_URL}/login`, { username: username, password: PASSWORD },
+        { redirects: 0, jar: jar });
+}
+
+function loggedIn(response) {
+    return response.status === 302 && !(response.headers['Location'] || '').includes('error');
+}
+
+export function setup() {
+    const jar = new http.CookieJar();
+    const response = postLogin(USERS[0], jar);
+    if (!loggedIn(response)) {
+        fail(`browse login as ${USERS[0]} failed: ${response.status} ${response.headers['Location'] || ''}`);
+    }
+    const cookies = {};
+    for (const [name, values] of Object.entries(jar.cookiesForURL(BASE_URL))) {
+        cookies[name] = values[0];
+    }
+    return { cookies: cookies };
+}
+
+export function login() {
+    const username = USERS[exec.scenario.iterationInTest % USERS.length];
+    const response = postLogin(username, new http.CookieJar());
+    check(response, {
+        'login succeeded': loggedIn,
+    });
+}
+
+export function browse(data) {
+    const page = LIST_PAGES[Math.floor(Math.random() * LIST_PAGES.length)];
+    const response = http.get(`${BASE_URL}${page}`, { redirects: 0, cookies: data.cookies });
+    check(response, {
+        'list page rendered': (r) => r.status === 200,
+    });
+}
@@ -0,0 +1,50 @@
+-- Query plans for the statements the V5__hot_path_indexes migration targets. Run against a seeded
+-- database (DatasetGenerator) before and after the migration and compare access types, rows examined
+-- and actual time:
+--
+--   mysql human_resources < loadtest/mysql/explain-hot-paths.sql > target/plans-before.txt
+--
+-- Boot time is the "Started MiniprojectApplication in ... seconds" startup line, also exposed as
+-- application.ready.time on the management port (http://localhost:8081/actuator/metrics).
+
+-- Employee list filtered by department, first keyset page ordered by name
+EXPLAIN ANALYZE
+SELECT e.id, e.full_name FROM employee e
+WHERE e.department_id = 1
+ORDER BY e.full_name, e.id
+LIMIT 11;
+
+-- Employee typeahead (lookupEmployees), no filters: first rows in name order
+EXPLAIN ANALYZE
+SELECT e.id, e.full_name FROM employee e
+ORDER BY e.full_name, e.id
+LIMIT 20;
+
+-- Dashboard rebuild: employees per gender
+EXPLAIN ANALYZE
+SELECT e.gender, COUNT(*) FROM employee e GROUP BY e.gender;
+
+-- Dashboard rebuild: employees per department and account status
+EXPLAIN ANALYZE
+SELECT d.id, d.name, a.status, COUNT(*) FROM employee e
+JOIN department d ON d.id = e.department_id
+JOIN account a ON a.id = e.account_id
+GROUP BY d.id, d.name, a.status;
+
+-- Account list filtered by status, first keyset page ordered by username
+EXPLAIN ANALYZE
+SELECT a.id, a.username FROM account a
+WHERE a.status = 'Blocked'
+ORDER BY a.username, a.id
+LIMIT 11;
+
+-- Staff counts by role and status
+EXPLAIN ANALYZE
+SELECT COUNT(DISTINCT a.id) FROM account a
+JOIN account_role ar ON ar.account_id = a.id
+JOIN role r ON r.id = ar.role_id
+WHERE r.name IN ('EMPLOYEE', 'MANAGER') AND a.status = 'Active';
+
+-- Employee dashboard: assignments of one employee
+EXPLAIN ANALYZE
+SELECT pa.id, pa.project_id FROM project_assignment pa WHERE pa.employee_id = 1;
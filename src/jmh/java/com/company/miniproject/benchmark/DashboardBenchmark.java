@@ -0,0 +1,48 @@
+package com.company.miniproject.benchmark;
+
+import com.company.miniproject.security.AccountPrincipal;
+import com.company.miniproject.service.DashboardService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard data for each role against the seeded database:
+ *
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.args="DashboardBenchmark -prof gc -rf json -rff target/jmh-dashboard.json"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardBenchmark {
+
+    private DashboardService dashboardService;
+    private AccountPrincipal manager;
+    private AccountPrincipal employee;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        dashboardService = app.bean(DashboardService.class);
+        manager = app.principalWithRole("MANAGER");
+        employee = app.principalWithRole("EMPLOYEE");
+    }
+
+    @Benchmark
+    public Map<String, Object> adminDashboard() {
+        return dashboardService.getAdminDashboardData();
+    }
+
+    @Benchmark
+    public Map<String, Object> managerDashboard() {
+        return dashboardService.getManagerDashboardData(manager);
+    }
+
+    @Benchmark
+    public Map<String, Object> employeeDashboard() {
+        return dashboardService.getEmployeeDashboardData(employee);
+    }
+}
@@ -0,0 +1,77 @@
+package com.company.miniproject.benchmark;
+
+import com.company.miniproject.entity.Employee;
+import com.company.miniproject.search.EmployeeNameIndex;
+import com.company.miniproject.search.SearchText;
+import com.company.miniproject.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page of the employee name search. {@code indexLookup} is the trigram index alone (candidate
+ * ids); {@code employeeSearch} is the service path, which loads one page by those ids or, past
+ * app.search.employee-index.max-candidates, cuts the page from the matches in name order;
+ * {@code likeScan} is the query it replaced, {@code LOWER(full_name) LIKE '%keyword%'} plus its
+ * count, which reads every row. Meant for the larger datasets:
+ *
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.args="EmployeeNameSearchBenchmark -p employees=100000,1000000
+ *       -jvmArgs -Xmx8g -rf json -rff target/jmh-name-search.json"
+ *
+ * H2 compares the unfolded names, so the LIKE query misses accented spellings the index finds; it
+ * still reads the whole table either way, which is the cost being measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeNameSearchBenchmark {
+
+    @Param({"nguyen", "nguyen tuan", "anh"})
+    public String keyword;
+
+    private EmployeeNameIndex employeeNameIndex;
+    private EmployeeService employeeService;
+    private JdbcTemplate jdbc;
+    private String searchKey;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        employeeNameIndex = app.bean(EmployeeNameIndex.class);
+        employeeService = app.bean(EmployeeService.class);
+        jdbc = app.jdbc();
+        searchKey = SearchText.fold(keyword);
+    }
+
+    @Benchmark
+    public List<Integer> indexLookup() {
+        return employeeNameIndex.search(searchKey);
+    }
+
+    @Benchmark
+    public Page<Employee> employeeSearch() {
+        return employeeService.searchEmployees(keyword, null, firstPage());
+    }
+
+    @Benchmark
+    public List<Integer> likeScan() {
+        String pattern = "%" + searchKey + "%";
+        List<Integer> ids = jdbc.queryForList(
+                "SELECT id FROM employee WHERE LOWER(full_name) LIKE ? ORDER BY full_name, id LIMIT 10",
+                Integer.class, pattern);
+        jdbc.queryForObject("SELECT COUNT(*) FROM employee WHERE LOWER(full_name) LIKE ?", Long.class, pattern);
+        return ids;
+    }
+
+    private static Pageable firstPage() {
+        return PageRequest.of(0, 10, Sort.by("fullName").and(Sort.by("id")));
+    }
+}
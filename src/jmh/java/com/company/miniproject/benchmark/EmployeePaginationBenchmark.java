@@ -0,0 +1,59 @@
+package com.company.miniproject.benchmark;
+
+import com.company.miniproject.dto.CursorPage;
+import com.company.miniproject.entity.Employee;
+import com.company.miniproject.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One page of the employee list in name order, by page number (OFFSET plus the count query) and by
+ * keyset cursor, at the first page and deep into the list. Meant for the largest dataset:
+ *
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.args="EmployeePaginationBenchmark -p employees=1000000
+ *       -jvmArgs -Xmx8g -rf json -rff target/jmh-pagination.json"
+ *
+ * The cursor for the deep page is reached by following next-page cursors once per trial. At
+ * 100000 employees page 5000 is the last page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeePaginationBenchmark {
+
+    private static final int SIZE = 20;
+    private static final String SORT_FIELD = "fullName";
+
+    @Param({"1", "5000"})
+    public int page;
+
+    private EmployeeService employeeService;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        employeeService = app.bean(EmployeeService.class);
+        for (int i = 1; i < page; i++) {
+            cursor = employeeService.scrollEmployees(null, null, SORT_FIELD, Sort.Direction.ASC, cursor, SIZE)
+                    .getNextCursor();
+        }
+    }
+
+    @Benchmark
+    public Page<Employee> offset() {
+        return employeeService.findAll(PageRequest.of(page - 1, SIZE,
+                Sort.by(SORT_FIELD).and(Sort.by("id"))));
+    }
+
+    @Benchmark
+    public CursorPage<Employee> keyset() {
+        return employeeService.scrollEmployees(null, null, SORT_FIELD, Sort.Direction.ASC, cursor, SIZE);
+    }
+}
@@ -0,0 +1,66 @@
+package com.company.miniproject.benchmark;
+
+import com.company.miniproject.export.ExportFormat;
+import com.company.miniproject.service.ExportService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The employee and project-assignment exports end to end against the seeded database: the
+ * streaming query, the DTO projection and the writer, into a discarding stream. Where
+ * {@link ExportWriterBenchmark} covers the writers alone, this includes the database read, so
+ * {@code -prof gc} shows whether allocation per row stays flat as the dataset grows:
+ *
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.args="ExportServiceBenchmark -prof gc -jvmArgs -Xmx512m
+ *       -rf json -rff target/jmh-export.json"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportServiceBenchmark {
+
+    @Param({"CSV", "XLSX"})
+    public ExportFormat format;
+
+    private ExportService exportService;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        exportService = app.bean(ExportService.class);
+    }
+
+    @Benchmark
+    public long exportEmployees() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        exportService.exportEmployees(format, out);
+        return out.count;
+    }
+
+    @Benchmark
+    public long exportProjectAssignments() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        exportService.exportProjectAssignments(format, out);
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.company.miniproject.benchmark;
+
+import com.company.miniproject.entity.AccountStatus;
+import com.company.miniproject.entity.Gender;
+import com.company.miniproject.export.ExportFormat;
+import com.company.miniproject.export.RowWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes N synthetic employee rows through the export writers into a discarding stream.
+ * Heap use should not grow with N: peakHeapBytes stays in the same range for 1k and 2M rows,
+ * and the run completes under a small fixed heap:
+ *
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.args="ExportWriterBenchmark -prof gc -jvmArgs -Xmx64m"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExportWriterBenchmark {
+
+    private static final List<String> HEADER = List.of(
+            "id", "fullName", "birthDate", "gender", "phone", "address", "department", "username", "email", "status");
+
+    @Param({"1000", "2000000"})
+    public int rows;
+
+    @Param({"CSV", "XLSX"})
+    public ExportFormat format;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+
+        /** Sum of the heap pools' peak usage during the iteration (an upper bound on the live heap). */
+        public long peakHeapBytes;
+
+        private List<MemoryPoolMXBean> heapPools;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            System.gc();
+            heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .toList();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+            peakHeapBytes = 0;
+        }
+
+        void record() {
+            peakHeapBytes = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        }
+    }
+
+    @Benchmark
+    public long export(HeapCounters heap) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        LocalDate birthDate = LocalDate.of(1990, 1, 1);
+        try (RowWriter writer = format.open(out, HEADER)) {
+            for (int i = 1; i <= rows; i++) {
+                writer.writeRow(i, "Nguy\u1ec5n V\u0103n " + i, birthDate.plusDays(i % 10_000), Gender.values()[i % 3],
+                        String.format("09%08d", i), "Street " + i, "Department " + (i % 50),
+                        "user" + i, "user" + i + "@example.com", AccountStatus.Active);
+            }
+        }
+        heap.record();
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.company.miniproject.benchmark;
+
+import com.company.miniproject.dto.ProjectAssignmentDto;
+import com.company.miniproject.entity.ProjectAssignment;
+import com.company.miniproject.service.ProjectService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds an employee to the most staffed project; each call's transaction is rolled back, so the
+ * same assignment is valid on every invocation and the dataset does not grow.
+ *
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.args="ProjectAssignmentBenchmark -prof gc -rf json -rff target/jmh-assignment.json"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectAssignmentBenchmark {
+
+    private ProjectService projectService;
+    private TransactionTemplate transactionTemplate;
+    private ProjectAssignmentDto dto;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        projectService = app.bean(ProjectService.class);
+        transactionTemplate = new TransactionTemplate(app.bean(PlatformTransactionManager.class));
+
+        Integer projectId = app.jdbc().queryForObject(
+                "SELECT project_id FROM project_assignment GROUP BY project_id ORDER BY COUNT(*) DESC, project_id LIMIT 1",
+                Integer.class);
+        Integer employeeId = app.jdbc().queryForObject(
+                "SELECT e.id FROM employee e WHERE NOT EXISTS " +
+                "(SELECT 1 FROM project_assignment pa WHERE pa.employee_id = e.id AND pa.project_id = ?) " +
+                "ORDER BY e.id LIMIT 1",
+                Integer.class, projectId);
+        LocalDate joinDate = app.jdbc().queryForObject(
+                "SELECT start_date FROM project WHERE id = ?", LocalDate.class, projectId);
+        dto = new ProjectAssignmentDto(projectId, employeeId, "developer", joinDate);
+    }
+
+    @Benchmark
+    public ProjectAssignment addProjectAssignment() {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return projectService.addProjectAssignment(dto);
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.company.miniproject.benchmark;
+
+import com.company.miniproject.security.AccountPrincipal;
+import com.company.miniproject.security.RoleName;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the authority-stream role checks previously done in IndexController,
+ * DashboardServiceImpl and ProjectController against the EnumSet-backed
+ * AccountPrincipal accessors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoleCheckBenchmark {
+
+    @Param({"EMPLOYEE", "MANAGER,EMPLOYEE", "ADMIN"})
+    public String roles;
+
+    private Authentication authentication;
+    
+    private AccountPrincipal principal;
+
+    @Setup
+    public void setUp() {
+        EnumSet<RoleName> roleNames = EnumSet.noneOf(RoleName.class);
+        for (String role : roles.split(",")) {
+            roleNames.add(RoleName.valueOf(role));
+        }
+        principal = new AccountPrincipal(1, 1, 1, "user", "{noop}secret", roleNames, false);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Benchmark
+    public void authorityStreamScan(Blackhole blackhole) {
+        blackhole.consume(authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        blackhole.consume(authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_MANAGER")));
+        blackhole.consume(authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_EMPLOYEE")));
+    }
+
+    @Benchmark
+    public void principalRoleSet(Blackhole blackhole) {
+        AccountPrincipal current = (AccountPrincipal) authentication.getPrincipal();
+        blackhole.consume(current.isAdmin());
+        blackhole.consume(current.isManager());
+        blackhole.consume(current.isEmployee());
+    }
+}
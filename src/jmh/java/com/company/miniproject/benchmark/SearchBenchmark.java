@@ -0,0 +1,76 @@
+package com.company.miniproject.benchmark;
+
+import com.company.miniproject.entity.Account;
+import com.company.miniproject.entity.Department;
+import com.company.miniproject.entity.Employee;
+import com.company.miniproject.repository.AccountRepository;
+import com.company.miniproject.search.SearchText;
+import com.company.miniproject.service.DepartmentService;
+import com.company.miniproject.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First list page (10 rows, as the controllers default to) for the employee and account searches,
+ * plus the department list behind every filter dropdown. "nguyen" matches about a quarter of the
+ * employees and falls back to SQL above the index's candidate limit; "nguyen tuan" stays in the index.
+ *
+ *   ./mvnw -Pjmh test-compile exec:exec -Djmh.args="SearchBenchmark -prof gc -rf json -rff target/jmh-search.json"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    @Param({"nguyen", "nguyen tuan"})
+    public String keyword;
+
+    private EmployeeService employeeService;
+    private DepartmentService departmentService;
+    private AccountRepository accountRepository;
+    private Integer largestDepartmentId;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication app) {
+        employeeService = app.bean(EmployeeService.class);
+        departmentService = app.bean(DepartmentService.class);
+        accountRepository = app.bean(AccountRepository.class);
+        largestDepartmentId = app.jdbc().queryForObject(
+                "SELECT department_id FROM employee WHERE department_id IS NOT NULL " +
+                "GROUP BY department_id ORDER BY COUNT(*) DESC LIMIT 1",
+                Integer.class);
+    }
+
+    @Benchmark
+    public Page<Employee> searchEmployeesByName() {
+        return employeeService.searchEmployees(keyword, null, firstPage("fullName"));
+    }
+
+    @Benchmark
+    public Page<Employee> searchEmployeesByNameInDepartment() {
+        return employeeService.searchEmployees(keyword, largestDepartmentId, firstPage("fullName"));
+    }
+
+    @Benchmark
+    public Page<Account> searchAccounts() {
+        return accountRepository.searchAccounts(SearchText.fold(keyword), null, null, firstPage("username"));
+    }
+
+    @Benchmark
+    public List<Department> findAllDepartments() {
+        return departmentService.findAll();
+    }
+
+    private static Pageable firstPage(String sortField) {
+        return PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, sortField));
+    }
+}
@@ -0,0 +1,92 @@
+package com.company.miniproject.benchmark;
+
+import com.company.miniproject.MiniprojectApplication;
+import com.company.miniproject.datagen.DatasetGenerator;
+import com.company.miniproject.search.EmployeeNameIndex;
+import com.company.miniproject.security.AccountPrincipal;
+import com.company.miniproject.security.CustomUserDetailsService;
+import com.company.miniproject.service.DashboardStatsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+
+/**
+ * The whole application on an embedded H2 database (MySQL mode) seeded by {@link DatasetGenerator}
+ * with {@link #employees} employees. Started once per trial; every size runs in its own fork.
+ * Benchmarks share the data read-only, so writes must be rolled back.
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    private static final String[] IDENTITY_TABLES = {
+            "role", "department", "project", "account", "employee", "project_assignment"};
+
+    @Param({"1000", "10000", "100000"})
+    public int employees;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        String url = "jdbc:h2:mem:bench" + employees + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        // Command-line arguments, not builder properties: those are defaults and application.properties
+        // (the MySQL url) would win over them.
+        context = new SpringApplicationBuilder(MiniprojectApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--spring.datasource.url=" + url,
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.flyway.enabled=false",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--app.security.password-hashing.bcrypt-strength=10");
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        DatasetGenerator.insert(url, "sa", "", employees, 42);
+        // The generator writes explicit ids, which H2 identity columns do not advance past.
+        for (String table : IDENTITY_TABLES) {
+            Integer next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Integer.class);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+        // Flyway is off here; the name-order index the migrations add is what name-sorted pages read.
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_employee_full_name_id ON employee (full_name, id)");
+        context.getBean(DashboardStatsService.class).rebuild();
+        context.getBean(EmployeeNameIndex.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public JdbcTemplate jdbc() {
+        return jdbcTemplate;
+    }
+
+    /** First active account holding {@code role}, loaded the way the login path would. */
+    public AccountPrincipal principalWithRole(String role) {
+        String username = jdbcTemplate.queryForObject(
+                "SELECT a.username FROM account a " +
+                "JOIN account_role ar ON ar.account_id = a.id JOIN role r ON r.id = ar.role_id " +
+                "WHERE r.name = ? AND a.status = 'Active' ORDER BY a.id LIMIT 1",
+                String.class, role);
+        return (AccountPrincipal) bean(CustomUserDetailsService.class).loadUserByUsername(username);
+    }
+}
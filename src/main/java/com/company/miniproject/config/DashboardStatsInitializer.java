@@ -0,0 +1,25 @@
+package com.company.miniproject.config;
+
+import com.company.miniproject.service.DashboardStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DashboardStatsInitializer implements ApplicationRunner {
+
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+    
+    @Value("${app.dashboard.stats.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildOnStartup || dashboardStatsService.isEmpty()) {
+            dashboardStatsService.rebuild();
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.company.miniproject.config;
 
+import com.company.miniproject.security.PasswordHashingUnavailableException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -9,6 +12,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.sql.SQLIntegrityConstraintViolationException;
 
 @ControllerAdvice
@@ -55,6 +59,28 @@ public class GlobalExceptionHandler {
         return "error/400";
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public String handleOptimisticLockingFailure(OptimisticLockingFailureException ex, HttpServletRequest request, Model model) {
+        model.addAttribute("errorCode", "409");
+        model.addAttribute("errorMessage", "The record was changed by someone else at the same time. Please reload and try again.");
+        model.addAttribute("requestedUrl", request.getRequestURL());
+        return "error/400";
+    }
+
+    // Thrown by BoundedPasswordEncoder from any form that hashes a password (account create, update,
+    // password changes, employee registration) when the hashing pool is saturated.
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handlePasswordHashingUnavailable(PasswordHashingUnavailableException ex, HttpServletRequest request,
+                                                   HttpServletResponse response, Model model) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, "5");
+        model.addAttribute("errorCode", "503");
+        model.addAttribute("errorMessage", "The server is busy processing passwords. Nothing was saved. Please try again in a few seconds.");
+        model.addAttribute("requestedUrl", request.getRequestURL());
+        return "error/503";
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public String handleGenericException(Exception ex, HttpServletRequest request, Model model) {
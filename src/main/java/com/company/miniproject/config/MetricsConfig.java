@@ -0,0 +1,71 @@
+package com.company.miniproject.config;
+
+import com.company.miniproject.monitoring.LoginMetrics;
+import com.company.miniproject.monitoring.MethodTimingInterceptor;
+import com.company.miniproject.monitoring.ViewRenderTimingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+/**
+ * Application metrics on top of what the actuator already binds (http.server.requests,
+ * hikaricp.connections.*, hibernate.* with hibernate.generate_statistics, cache.gets):
+ * per-method timers for controllers and services, Thymeleaf render time and login outcomes.
+ * Everything is scraped from /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private static final List<String> TIMED_PACKAGES = List.of(
+            "com.company.miniproject.controller",
+            "com.company.miniproject.service.impl");
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * An infrastructure advisor, so the proxy creator already used for @Transactional picks it up
+     * without AspectJ. It runs outermost: the time includes method security and the commit.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor methodTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return Modifier.isPublic(method.getModifiers())
+                        && method.getDeclaringClass() != Object.class;
+            }
+        };
+        pointcut.setClassFilter(type -> TIMED_PACKAGES.contains(type.getPackageName()));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new MethodTimingInterceptor(meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public LoginMetrics loginMetrics() {
+        return new LoginMetrics(meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ViewRenderTimingInterceptor(meterRegistry));
+    }
+}
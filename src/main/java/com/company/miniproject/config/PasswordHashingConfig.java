@@ -0,0 +1,69 @@
+package com.company.miniproject.config;
+
+import com.company.miniproject.security.BcryptStrengthCalibrator;
+import com.company.miniproject.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password encoding: a {@link DelegatingPasswordEncoder} whose BCrypt cost is fixed or calibrated
+ * at startup, run on a platform-thread pool sized to the core count. The queue is bounded so a
+ * login flood fails fast instead of piling up parked virtual threads behind the hashers.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    private static final String BCRYPT_ID = "bcrypt";
+
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashingExecutor(
+            @Value("${app.security.password-hashing.threads:0}") int threads,
+            @Value("${app.security.password-hashing.queue-capacity:1000}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 1).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        // executor.queued{name=passwordHashing} is the queue depth; executor.active the busy hashers.
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing");
+        return executor;
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            ThreadPoolExecutor passwordHashingExecutor,
+            @Value("${app.security.password-hashing.bcrypt-strength:0}") int configuredStrength,
+            @Value("${app.security.password-hashing.target-verify-time:PT0.05S}") Duration targetVerifyTime,
+            @Value("${app.security.password-hashing.min-strength:10}") int minStrength,
+            @Value("${app.security.password-hashing.max-strength:16}") int maxStrength,
+            MeterRegistry meterRegistry) {
+        int strength = configuredStrength > 0
+                ? configuredStrength
+                : BcryptStrengthCalibrator.calibrate(targetVerifyTime, minStrength, maxStrength);
+        Gauge.builder("password.hashing.bcrypt.strength", () -> strength)
+                .description("BCrypt cost used for new and upgraded password hashes")
+                .register(meterRegistry);
+        
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT_ID,
+                Map.of(BCRYPT_ID, new BCryptPasswordEncoder(strength)));
+        // Hashes stored before the {id} prefix was introduced are plain BCrypt; matching them
+        // flags them for upgrade, so they are re-encoded on the owner's next successful login.
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return new BoundedPasswordEncoder(encoder, passwordHashingExecutor);
+    }
+}
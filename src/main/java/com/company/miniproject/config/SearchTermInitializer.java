@@ -0,0 +1,36 @@
+package com.company.miniproject.config;
+
+import com.company.miniproject.service.AccountService;
+import com.company.miniproject.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SearchTermInitializer implements ApplicationRunner {
+
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private AccountService accountService;
+    
+    @Value("${app.search.term-backfill.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Walks the rows without terms by id, so rows that still have none afterwards are not fetched again.
+        Integer lastId = 0;
+        do {
+            lastId = employeeService.refreshMissingSearchTerms(lastId, batchSize);
+        } while (lastId != null);
+        
+        lastId = 0;
+        do {
+            lastId = accountService.refreshMissingSearchTerms(lastId, batchSize);
+        } while (lastId != null);
+    }
+}
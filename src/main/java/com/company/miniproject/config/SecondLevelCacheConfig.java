@@ -0,0 +1,75 @@
+package com.company.miniproject.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache on Caffeine through JCache, for reference data that almost never
+ * changes: the Role and Department entities, the Account.roles collection and the cacheable
+ * role/department queries. Regions are READ_WRITE, so writes through Hibernate (DepartmentServiceImpl)
+ * update or invalidate them on commit; every region is size-bounded and reports hits and misses
+ * as cache.gets{cache=...}.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${app.cache.reference-data.max-entries:1000}") long referenceDataEntries,
+            @Value("${app.cache.account-roles.max-entries:10000}") long accountRolesEntries,
+            @Value("${app.cache.query-timestamps.max-entries:10000}") long timestampEntries,
+            MeterRegistry meterRegistry) {
+        Map<String, Long> regions = new LinkedHashMap<>();
+        regions.put("role", referenceDataEntries);
+        regions.put("department", referenceDataEntries);
+        regions.put("account.roles", accountRolesEntries);
+        regions.put("reference-data-queries", referenceDataEntries);
+        regions.put(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, referenceDataEntries);
+        // Evicting a timestamp makes dependent query results look fresh; size it above the number of tables.
+        regions.put(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestampEntries);
+
+        // A manager of our own rather than the provider's JVM-wide default, so contexts sharing a JVM
+        // (tests, benchmarks) never see each other's regions; it is closed with the context.
+        URI managerUri = URI.create("miniproject:hibernate-l2:" + UUID.randomUUID());
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(managerUri, SecondLevelCacheConfig.class.getClassLoader());
+        regions.forEach((name, maxEntries) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+            configuration.setStatisticsEnabled(true);
+            Cache<Object, Object> cache = cacheManager.createCache(name, configuration);
+            JCacheMetrics.monitor(meterRegistry, cache);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // A region missing from the list above is a mapping mistake, not something to create unbounded.
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -2,16 +2,22 @@ package com.company.miniproject.config;
 
 import com.company.miniproject.security.CustomAuthenticationFailureHandler;
 import com.company.miniproject.security.CustomUserDetailsService;
+import com.company.miniproject.security.LoginRateLimitFilter;
+import com.company.miniproject.security.LoginRateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -23,6 +29,12 @@ public class SecurityConfig {
     
     @Autowired
     private CustomAuthenticationFailureHandler authenticationFailureHandler;
+    
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -30,11 +42,19 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/login", "/css/**", "/js/**", "/images/**", "/error/**", "/.well-known/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/prometheus").access((authentication, context) ->
+                                new AuthorizationDecision(isManagementPort(context.getRequest())
+                                        || AuthorityAuthorizationManager.<RequestAuthorizationContext>hasRole("ADMIN")
+                                                .authorize(authentication, context).isGranted()))
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/accounts/**").hasRole("ADMIN")
+                        .requestMatchers("/dashboard/**").hasRole("ADMIN")
                         .requestMatchers("/departments/new", "/departments/*/edit", "/departments/*/delete").hasRole("ADMIN")
                         .requestMatchers("/departments", "/departments/*").hasAnyRole("ADMIN", "MANAGER")
                         .requestMatchers("/projects/new").hasAnyRole("ADMIN", "MANAGER")
                         .requestMatchers("/projects/assignments/*/delete").hasAnyRole("ADMIN", "MANAGER")
+                        .requestMatchers("/projects/assignments/export").hasAnyRole("ADMIN", "MANAGER")
                         .requestMatchers("/projects/*/edit").hasAnyRole("ADMIN", "MANAGER")
                         .requestMatchers("/projects/*/delete").hasAnyRole("ADMIN", "MANAGER")
                         .requestMatchers("/projects/*/assignments").hasAnyRole("ADMIN", "MANAGER")
@@ -48,6 +68,8 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .userDetailsService(userDetailsService)
+                .addFilterBefore(new LoginRateLimitFilter(loginRateLimiter, "/login"),
+                        UsernamePasswordAuthenticationFilter.class)
                 .formLogin(form -> form
                         .loginPage("/login")
                         .failureHandler(authenticationFailureHandler)
@@ -68,8 +90,12 @@ public class SecurityConfig {
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    /**
+     * Whether the request arrived on the separate management connector, which application.properties
+     * binds to 127.0.0.1 and no proxy forwards to. The socket's local port is checked, not the Host or
+     * X-Forwarded-* headers a client controls. Without a separate port this never matches.
+     */
+    private boolean isManagementPort(HttpServletRequest request) {
+        return request.getLocalPort() == managementPort;
     }
 }
@@ -0,0 +1,43 @@
+package com.company.miniproject.config;
+
+import com.company.miniproject.monitoring.SqlQueryLog;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Slow-query and sampled SQL logging at the JDBC level, so JdbcTemplate batches and native
+ * queries are covered as well as Hibernate. Only the application's "dataSource" is wrapped; the
+ * primary and replica pools behind the routing data source are reached through it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.logging.sql.enabled")
+public class SqlQueryLogConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlQueryLogDataSourceWrapper(
+            @Value("${app.logging.sql.slow-threshold:PT0.5S}") Duration slowThreshold,
+            @Value("${app.logging.sql.sample-rate:0}") double sampleRate) {
+        SqlQueryLog queryLog = new SqlQueryLog(slowThreshold, sampleRate);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(DATA_SOURCE_BEAN)
+                            .listener(queryLog)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
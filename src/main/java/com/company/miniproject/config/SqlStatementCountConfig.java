@@ -0,0 +1,34 @@
+package com.company.miniproject.config;
+
+import com.company.miniproject.monitoring.CountingStatementInspector;
+import com.company.miniproject.monitoring.SqlStatementCountFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Per-request SQL statement counting: a Hibernate statement inspector feeds the counter and a
+ * filter ahead of Spring Security reports it, so statements run during authentication count too.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.monitoring.sql-statement-count.enabled", matchIfMissing = true)
+public class SqlStatementCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementCountFilter> sqlStatementCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatementCountFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementCountFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
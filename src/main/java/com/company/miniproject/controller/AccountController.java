@@ -1,7 +1,9 @@
 package com.company.miniproject.controller;
 
 import com.company.miniproject.dto.AccountDto;
+import com.company.miniproject.dto.AccountListItemDto;
 import com.company.miniproject.dto.AdminChangePasswordDto;
+import com.company.miniproject.dto.CursorPage;
 import com.company.miniproject.entity.Account;
 import com.company.miniproject.entity.AccountStatus;
 import com.company.miniproject.entity.Role;
@@ -9,10 +11,12 @@ import com.company.miniproject.repository.RoleRepository;
 import com.company.miniproject.service.AccountService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
@@ -27,6 +31,8 @@ import java.util.stream.Collectors;
 @RequestMapping("/accounts")
 public class AccountController {
 
+    private static final int MAX_API_PAGE_SIZE = 100;
+
     @Autowired
     private AccountService accountService;
 
@@ -42,6 +48,8 @@ public class AccountController {
                                @RequestParam(defaultValue = "10") int size,
                                @RequestParam(required = false) String sortBy,
                                @RequestParam(required = false) String sortDir,
+                               @RequestParam(required = false) String after,
+                               @RequestParam(required = false) String mode,
                                Model model) {
         try {
             String sortField = (sortBy != null && !sortBy.trim().isEmpty()) ? sortBy : "username";
@@ -53,19 +61,33 @@ public class AccountController {
                 direction = Sort.Direction.ASC;
             }
             
-            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
-            Page<Account> accountPage;
+            boolean keyset = (after != null || "keyset".equalsIgnoreCase(mode)) && isKeysetSortField(sortField);
             
-            if ((keyword != null && !keyword.trim().isEmpty()) || roleId != null || status != null) {
-                accountPage = accountService.searchAccounts(keyword, roleId, status, pageable);
+            if (keyset) {
+                CursorPage<Account> cursorPage = accountService.scrollAccounts(
+                        keyword, roleId, status, sortField, direction, after, size);
+                model.addAttribute("accounts", cursorPage.getContent());
+                model.addAttribute("currentPage", 0);
+                model.addAttribute("totalPages", 0);
+                model.addAttribute("nextCursor", cursorPage.getNextCursor());
+                model.addAttribute("hasNext", cursorPage.isHasNext());
             } else {
-                accountPage = accountService.findAll(pageable);
+                Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
+                Page<Account> accountPage;
+                
+                if ((keyword != null && !keyword.trim().isEmpty()) || roleId != null || status != null) {
+                    accountPage = accountService.searchAccounts(keyword, roleId, status, pageable);
+                } else {
+                    accountPage = accountService.findAll(pageable);
+                }
+                
+                model.addAttribute("accounts", accountPage.getContent());
+                model.addAttribute("currentPage", page);
+                model.addAttribute("totalPages", accountPage.getTotalPages());
+                model.addAttribute("totalItems", accountPage.getTotalElements());
             }
             
-            model.addAttribute("accounts", accountPage.getContent());
-            model.addAttribute("currentPage", page);
-            model.addAttribute("totalPages", accountPage.getTotalPages());
-            model.addAttribute("totalItems", accountPage.getTotalElements());
+            model.addAttribute("keyset", keyset);
             model.addAttribute("size", size);
             model.addAttribute("sortBy", sortField);
             model.addAttribute("sortDir", direction.toString().toLowerCase());
@@ -82,6 +104,34 @@ public class AccountController {
         return "account/list";
     }
 
+    @GetMapping(value = "/api", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    @Transactional(readOnly = true)
+    public CursorPage<AccountListItemDto> listAccountsJson(@RequestParam(required = false) String keyword,
+                                                           @RequestParam(required = false) Integer roleId,
+                                                           @RequestParam(required = false) AccountStatus status,
+                                                           @RequestParam(defaultValue = "10") int size,
+                                                           @RequestParam(required = false) String sortBy,
+                                                           @RequestParam(required = false) String sortDir,
+                                                           @RequestParam(required = false) String after) {
+        String sortField = isKeysetSortField(sortBy) ? sortBy : "username";
+        Sort.Direction direction = (sortDir != null && sortDir.equalsIgnoreCase("desc")) 
+                ? Sort.Direction.DESC : Sort.Direction.ASC;
+        int pageSize = Math.max(1, Math.min(size, MAX_API_PAGE_SIZE));
+        
+        CursorPage<Account> cursorPage = accountService.scrollAccounts(
+                keyword, roleId, status, sortField, direction, after, pageSize);
+        List<AccountListItemDto> items = cursorPage.getContent().stream()
+                .map(account -> new AccountListItemDto(
+                        account.getId(),
+                        account.getUsername(),
+                        account.getEmail(),
+                        account.getStatus(),
+                        account.getRoles().stream().map(Role::getName).collect(Collectors.toSet())))
+                .collect(Collectors.toList());
+        return new CursorPage<>(items, cursorPage.getNextCursor(), cursorPage.isHasNext());
+    }
+
     @GetMapping("/new")
     public String showCreateForm(Model model) {
         List<Role> roles = roleRepository.findAll();
@@ -151,6 +201,7 @@ public class AccountController {
         dto.setRoleIds(account.getRoles().stream()
                 .map(Role::getId)
                 .collect(Collectors.toSet()));
+        dto.setVersion(account.getVersion());
         
         List<Role> roles = roleRepository.findAll();
         model.addAttribute("accountDto", dto);
@@ -192,6 +243,10 @@ public class AccountController {
         try {
             accountService.update(id, dto);
             redirectAttributes.addFlashAttribute("successMessage", "Account updated successfully");
+        } catch (OptimisticLockingFailureException e) {
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "This account was changed by someone else while you were editing. Review the current details and apply your changes again.");
+            return "redirect:/accounts/" + id + "/edit";
         } catch (IllegalArgumentException e) {
             String errorMsg = e.getMessage();
             if (errorMsg != null) {
@@ -296,5 +351,9 @@ public class AccountController {
     private boolean isValidSortField(String field) {
         return field != null && (field.equals("username") || field.equals("email") || field.equals("status"));
     }
+    
+    private boolean isKeysetSortField(String field) {
+        return field != null && (field.equals("username") || field.equals("email"));
+    }
 }
 
@@ -16,7 +16,9 @@ public class AuthController {
             HttpServletRequest request,
             Model model) {
 
-        if (error != null) {
+        if ("rate_limited".equals(error)) {
+            model.addAttribute("loginErrorKey", "error.auth.too_many_attempts");
+        } else if (error != null) {
             HttpSession session = request.getSession(false);
             if (session != null) {
                 String loginErrorKey = (String) session.getAttribute("loginErrorKey");
@@ -1,10 +1,15 @@
 package com.company.miniproject.controller;
 
+import com.company.miniproject.dto.DepartmentSummary;
 import com.company.miniproject.entity.Department;
-import com.company.miniproject.repository.EmployeeRepository;
 import com.company.miniproject.service.DepartmentService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -12,36 +17,42 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/departments")
 public class DepartmentController {
 
     @Autowired
     private DepartmentService departmentService;
-    
-    @Autowired
-    private EmployeeRepository employeeRepository;
 
     @GetMapping
     @Transactional(readOnly = true)
-    public String listDepartments(@RequestParam(required = false) String sortBy,
+    public String listDepartments(@RequestParam(defaultValue = "0") int page,
+                                 @RequestParam(defaultValue = "10") int size,
+                                 @RequestParam(required = false) String sortBy,
                                  @RequestParam(required = false) String sortDir,
                                  Model model) {
         try {
             String sortField = (sortBy != null && !sortBy.trim().isEmpty()) ? sortBy : "name";
-            boolean ascending = (sortDir == null || !sortDir.equalsIgnoreCase("desc"));
+            Sort.Direction direction = (sortDir != null && sortDir.equalsIgnoreCase("desc")) 
+                    ? Sort.Direction.DESC : Sort.Direction.ASC;
             
             if (!isValidSortField(sortField)) {
                 sortField = "name";
-                ascending = true;
+                direction = Sort.Direction.ASC;
             }
             
-            List<Department> departments = departmentService.findAll(sortField, ascending);
-            model.addAttribute("departments", departments);
+            Sort sort = sortField.equals("employeeCount")
+                    ? JpaSort.unsafe(direction, "COUNT(e)").and(Sort.by(Sort.Direction.ASC, "name"))
+                    : Sort.by(direction, sortField);
+            Page<DepartmentSummary> departmentPage = departmentService.findSummaries(PageRequest.of(page, size, sort));
+            
+            model.addAttribute("departments", departmentPage.getContent());
+            model.addAttribute("currentPage", page);
+            model.addAttribute("totalPages", departmentPage.getTotalPages());
+            model.addAttribute("totalItems", departmentPage.getTotalElements());
+            model.addAttribute("size", size);
             model.addAttribute("sortBy", sortField);
-            model.addAttribute("sortDir", ascending ? "asc" : "desc");
+            model.addAttribute("sortDir", direction.toString().toLowerCase());
         } catch (Exception e) {
             e.printStackTrace();
             model.addAttribute("errorMessage", "Error loading departments: " + e.getMessage());
@@ -56,10 +67,6 @@ public class DepartmentController {
                 .orElseThrow(() -> new IllegalArgumentException("Department not found with id: " + id));
         model.addAttribute("department", department);
         
-        List<com.company.miniproject.entity.Employee> availableEmployees = 
-            employeeRepository.findEmployeesNotInDepartment(id);
-        model.addAttribute("availableEmployees", availableEmployees);
-        
         return "department/detail";
     }
 
@@ -115,6 +122,10 @@ public class DepartmentController {
         try {
             departmentService.update(id, department);
             redirectAttributes.addFlashAttribute("successMessage", "Department updated successfully");
+        } catch (OptimisticLockingFailureException e) {
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "This department was changed by someone else while you were editing. Review the current details and apply your changes again.");
+            return "redirect:/departments/" + id + "/edit";
         } catch (IllegalArgumentException e) {
             redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
             model.addAttribute("formAction", "/departments/" + id);
@@ -166,6 +177,7 @@ public class DepartmentController {
     }
     
     private boolean isValidSortField(String field) {
-        return field != null && (field.equals("name") || field.equals("description"));
+        return field != null && (field.equals("name") || field.equals("description") 
+                || field.equals("employeeCount"));
     }
 }
@@ -1,36 +1,53 @@
 package com.company.miniproject.controller;
 
 import com.company.miniproject.dto.ChangePasswordDto;
+import com.company.miniproject.dto.CursorPage;
+import com.company.miniproject.dto.EmployeeListItemDto;
+import com.company.miniproject.dto.EmployeeOptionDto;
 import com.company.miniproject.dto.EmployeeRegistrationDto;
 import com.company.miniproject.entity.Department;
 import com.company.miniproject.entity.Employee;
 import com.company.miniproject.entity.Gender;
+import com.company.miniproject.security.AccountPrincipal;
+import com.company.miniproject.security.PasswordHashingUnavailableException;
 import com.company.miniproject.service.DepartmentService;
+import com.company.miniproject.service.EmployeeImportService;
 import com.company.miniproject.service.EmployeeService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/employees")
 public class EmployeeController {
 
+    private static final int MAX_API_PAGE_SIZE = 100;
+
     @Autowired
     private EmployeeService employeeService;
     
     @Autowired
     private DepartmentService departmentService;
+    
+    @Autowired
+    private EmployeeImportService employeeImportService;
 
     @GetMapping
     public String listEmployees(@RequestParam(required = false) String keyword,
@@ -39,6 +56,8 @@ public class EmployeeController {
                                @RequestParam(defaultValue = "10") int size,
                                @RequestParam(required = false) String sortBy,
                                @RequestParam(required = false) String sortDir,
+                               @RequestParam(required = false) String after,
+                               @RequestParam(required = false) String mode,
                                Model model) {
         try {
             String sortField = (sortBy != null && !sortBy.trim().isEmpty()) ? sortBy : "fullName";
@@ -50,21 +69,35 @@ public class EmployeeController {
                 direction = Sort.Direction.ASC;
             }
             
-            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
-            Page<Employee> employeePage;
+            boolean keyset = (after != null || "keyset".equalsIgnoreCase(mode)) && isKeysetSortField(sortField);
             
-            if (keyword != null && !keyword.trim().isEmpty() || departmentId != null) {
-                employeePage = employeeService.searchEmployees(keyword, departmentId, pageable);
+            if (keyset) {
+                CursorPage<Employee> cursorPage = employeeService.scrollEmployees(
+                        keyword, departmentId, sortField, direction, after, size);
+                model.addAttribute("employees", cursorPage.getContent());
+                model.addAttribute("currentPage", 0);
+                model.addAttribute("totalPages", 0);
+                model.addAttribute("nextCursor", cursorPage.getNextCursor());
+                model.addAttribute("hasNext", cursorPage.isHasNext());
             } else {
-                employeePage = employeeService.findAll(pageable);
+                Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
+                Page<Employee> employeePage;
+                
+                if (keyword != null && !keyword.trim().isEmpty() || departmentId != null) {
+                    employeePage = employeeService.searchEmployees(keyword, departmentId, pageable);
+                } else {
+                    employeePage = employeeService.findAll(pageable);
+                }
+                
+                model.addAttribute("employees", employeePage.getContent());
+                model.addAttribute("currentPage", page);
+                model.addAttribute("totalPages", employeePage.getTotalPages());
+                model.addAttribute("totalItems", employeePage.getTotalElements());
             }
             
             List<Department> departments = departmentService.findAll();
             
-            model.addAttribute("employees", employeePage.getContent());
-            model.addAttribute("currentPage", page);
-            model.addAttribute("totalPages", employeePage.getTotalPages());
-            model.addAttribute("totalItems", employeePage.getTotalElements());
+            model.addAttribute("keyset", keyset);
             model.addAttribute("size", size);
             model.addAttribute("sortBy", sortField);
             model.addAttribute("sortDir", direction.toString().toLowerCase());
@@ -80,6 +113,48 @@ public class EmployeeController {
         return "employee/list";
     }
 
+    @GetMapping(value = "/api", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public CursorPage<EmployeeListItemDto> listEmployeesJson(@RequestParam(required = false) String keyword,
+                                                             @RequestParam(required = false) Integer departmentId,
+                                                             @RequestParam(defaultValue = "10") int size,
+                                                             @RequestParam(required = false) String sortBy,
+                                                             @RequestParam(required = false) String sortDir,
+                                                             @RequestParam(required = false) String after) {
+        String sortField = isKeysetSortField(sortBy) ? sortBy : "fullName";
+        Sort.Direction direction = (sortDir != null && sortDir.equalsIgnoreCase("desc")) 
+                ? Sort.Direction.DESC : Sort.Direction.ASC;
+        int pageSize = Math.max(1, Math.min(size, MAX_API_PAGE_SIZE));
+        
+        CursorPage<Employee> cursorPage = employeeService.scrollEmployees(
+                keyword, departmentId, sortField, direction, after, pageSize);
+        List<EmployeeListItemDto> items = cursorPage.getContent().stream()
+                .map(emp -> new EmployeeListItemDto(
+                        emp.getId(),
+                        emp.getFullName(),
+                        emp.getAccount().getEmail(),
+                        emp.getPhone(),
+                        emp.getDepartment() != null ? emp.getDepartment().getName() : null,
+                        emp.getGender()))
+                .collect(Collectors.toList());
+        return new CursorPage<>(items, cursorPage.getNextCursor(), cursorPage.isHasNext());
+    }
+
+    @GetMapping(value = "/lookup", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public List<EmployeeOptionDto> lookupEmployees(@RequestParam(required = false) String q,
+                                                   @RequestParam(required = false) Integer excludeDepartmentId,
+                                                   @RequestParam(required = false) Integer excludeProjectId,
+                                                   @RequestParam(defaultValue = "20") int limit) {
+        int maxResults = Math.max(1, Math.min(limit, MAX_API_PAGE_SIZE));
+        return employeeService.lookupEmployees(q, excludeDepartmentId, excludeProjectId, maxResults).stream()
+                .map(emp -> new EmployeeOptionDto(
+                        emp.getId(),
+                        emp.getFullName(),
+                        emp.getDepartment() != null ? emp.getDepartment().getName() : null))
+                .collect(Collectors.toList());
+    }
+
     @GetMapping("/new")
     public String showCreateForm(Model model) {
         List<Department> departments = departmentService.findAll();
@@ -134,6 +209,29 @@ public class EmployeeController {
         return "redirect:/employees";
     }
 
+    @GetMapping("/import")
+    public String showImportForm() {
+        return "employee/import";
+    }
+
+    @PostMapping("/import")
+    public String importEmployees(@RequestParam("file") MultipartFile file, Model model) {
+        if (file.isEmpty()) {
+            model.addAttribute("errorMessage", "Please choose a CSV file to import");
+            return "employee/import";
+        }
+        
+        try (InputStream csv = file.getInputStream()) {
+            model.addAttribute("importResult", employeeImportService.importCsv(csv));
+        } catch (IllegalArgumentException | IOException e) {
+            model.addAttribute("errorMessage", "Could not read the CSV file: " + e.getMessage());
+        } catch (PasswordHashingUnavailableException e) {
+            model.addAttribute("errorMessage", "Password hashing is busy, so the import stopped early. "
+                    + "Rows imported before that were kept. Please try again later.");
+        }
+        return "employee/import";
+    }
+
     @GetMapping("/{id}/edit")
     public String showEditForm(@PathVariable Integer id, Model model) {
         Employee employee = employeeService.findById(id)
@@ -149,6 +247,8 @@ public class EmployeeController {
         dto.setDepartmentId(employee.getDepartment() != null ? employee.getDepartment().getId() : null);
         dto.setUsername(employee.getAccount().getUsername());
         dto.setEmail(employee.getAccount().getEmail());
+        dto.setVersion(employee.getVersion());
+        dto.setAccountVersion(employee.getAccount().getVersion());
         
         List<Department> departments = departmentService.findAll();
         model.addAttribute("employeeDto", dto);
@@ -164,10 +264,9 @@ public class EmployeeController {
                                 @Valid @ModelAttribute("employeeDto") EmployeeRegistrationDto dto,
                                 BindingResult result,
                                 Model model,
-                                Authentication authentication,
+                                @AuthenticationPrincipal AccountPrincipal principal,
                                 RedirectAttributes redirectAttributes) {
-        if (authentication != null && authentication.getAuthorities().stream()
-                .noneMatch(a -> a.getAuthority().equals("ROLE_ADMIN"))) {
+        if (principal != null && !principal.isAdmin()) {
             Employee employee = employeeService.findById(id)
                     .orElseThrow(() -> new IllegalArgumentException("Employee not found with id: " + id));
             dto.setUsername(employee.getAccount().getUsername());
@@ -186,6 +285,10 @@ public class EmployeeController {
         try {
             employeeService.update(id, dto);
             redirectAttributes.addFlashAttribute("successMessage", "Employee updated successfully");
+        } catch (OptimisticLockingFailureException e) {
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "This employee was changed by someone else while you were editing. Review the current details and apply your changes again.");
+            return "redirect:/employees/" + id + "/edit";
         } catch (IllegalArgumentException e) {
             String errorMsg = e.getMessage();
             if (errorMsg != null) {
@@ -270,4 +373,8 @@ public class EmployeeController {
         return field != null && (field.equals("fullName") || field.equals("phone") 
                 || field.equals("gender") || field.equals("account.email") || field.equals("department.name"));
     }
+    
+    private boolean isKeysetSortField(String field) {
+        return field != null && (field.equals("fullName") || field.equals("phone") || field.equals("account.email"));
+    }
 }
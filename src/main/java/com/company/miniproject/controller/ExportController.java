@@ -0,0 +1,57 @@
+package com.company.miniproject.controller;
+
+import com.company.miniproject.export.ExportFormat;
+import com.company.miniproject.service.ExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Export downloads. Rows are written straight to the response as they are read; access rules
+ * follow the owning section's paths in SecurityConfig.
+ */
+@Controller
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    @GetMapping("/employees/export")
+    public void exportEmployees(@RequestParam(defaultValue = "csv") String format,
+                                HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        exportService.exportEmployees(exportFormat, startDownload(response, exportFormat, "employees"));
+    }
+
+    @GetMapping("/accounts/export")
+    public void exportAccounts(@RequestParam(defaultValue = "csv") String format,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        exportService.exportAccounts(exportFormat, startDownload(response, exportFormat, "accounts"));
+    }
+
+    @GetMapping("/projects/assignments/export")
+    public void exportProjectAssignments(@RequestParam(defaultValue = "csv") String format,
+                                         HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        exportService.exportProjectAssignments(exportFormat, startDownload(response, exportFormat, "project-assignments"));
+    }
+
+    private OutputStream startDownload(HttpServletResponse response, ExportFormat format, String baseName) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(format.fileName(baseName + "-" + LocalDate.now()), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        return response.getOutputStream();
+    }
+}
@@ -1,15 +1,17 @@
 package com.company.miniproject.controller;
 
+import com.company.miniproject.security.AccountPrincipal;
 import com.company.miniproject.service.DashboardService;
+import com.company.miniproject.service.DashboardStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.Collection;
 import java.util.Map;
 
 @Controller
@@ -17,21 +19,18 @@ public class IndexController {
 
     @Autowired
     private DashboardService dashboardService;
+    
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
 
     @GetMapping("/")
     @PreAuthorize("isAuthenticated()")
-    public String index(Authentication authentication, Model model) {
-        Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
-        
-        boolean isAdmin = authorities.stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+    public String index(@AuthenticationPrincipal AccountPrincipal principal, Model model) {
+        boolean isAdmin = principal.isAdmin();
+        boolean isManager = principal.isManager();
+        boolean isEmployee = principal.isEmployee();
         
-        boolean isManager = authorities.stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_MANAGER"));
-        
-        boolean isEmployee = authorities.stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_EMPLOYEE"));
-        Map<String, Long> stats = dashboardService.getStatistics(authentication);
+        Map<String, Long> stats = dashboardService.getStatistics(principal);
         model.addAttribute("stats", stats);
         model.addAttribute("isAdmin", isAdmin);
         model.addAttribute("isManager", isManager);
@@ -41,10 +40,10 @@ public class IndexController {
             Map<String, Object> adminData = dashboardService.getAdminDashboardData();
             model.addAttribute("dashboardData", adminData);
         } else if (isManager && !isAdmin) {
-            Map<String, Object> managerData = dashboardService.getManagerDashboardData(authentication);
+            Map<String, Object> managerData = dashboardService.getManagerDashboardData(principal);
             model.addAttribute("dashboardData", managerData);
         } else if (isEmployee) {
-            Map<String, Object> employeeData = dashboardService.getEmployeeDashboardData(authentication);
+            Map<String, Object> employeeData = dashboardService.getEmployeeDashboardData(principal);
             model.addAttribute("dashboardData", employeeData);
         }
         
@@ -53,7 +52,15 @@ public class IndexController {
     
     @GetMapping("/index")
     @PreAuthorize("isAuthenticated()")
-    public String indexPage(Authentication authentication, Model model) {
-        return index(authentication, model);
+    public String indexPage(@AuthenticationPrincipal AccountPrincipal principal, Model model) {
+        return index(principal, model);
+    }
+    
+    @PostMapping("/dashboard/stats/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public String rebuildDashboardStats(RedirectAttributes redirectAttributes) {
+        dashboardStatsService.rebuild();
+        redirectAttributes.addFlashAttribute("successMessage", "Dashboard statistics rebuilt successfully");
+        return "redirect:/";
     }
-}
\ No newline at end of file
+}
@@ -11,11 +11,13 @@ import com.company.miniproject.repository.AccountRepository;
 import com.company.miniproject.repository.DepartmentRepository;
 import com.company.miniproject.repository.EmployeeRepository;
 import com.company.miniproject.repository.ProjectAssignmentRepository;
+import com.company.miniproject.security.AccountPrincipal;
 import com.company.miniproject.service.AccountService;
 import com.company.miniproject.service.EmployeeService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
@@ -50,44 +52,35 @@ public class ProfileController {
 
     @GetMapping("/profile")
     @Transactional(readOnly = true)
-    public String showProfile(Authentication authentication, Model model) {
-        if (authentication == null) {
+    public String showProfile(@AuthenticationPrincipal AccountPrincipal principal, Model model) {
+        if (principal == null) {
             return "redirect:/login";
         }
         
-        String username = authentication.getName();
-        
-        Optional<Account> accountOpt = accountRepository.findByUsername(username);
+        Optional<Account> accountOpt = accountRepository.findById(principal.getAccountId());
         if (accountOpt.isEmpty()) {
             model.addAttribute("errorMessage", "Account not found");
             return "profile/view";
         }
         
         Account account = accountOpt.get();
-        if (account.getRoles() != null) {
-            account.getRoles().size();
-        }
-        if (account.getEmployee() != null) {
-            account.getEmployee().getId();
-        }
         model.addAttribute("account", account);
         
-        Optional<Employee> employeeOpt = employeeRepository.findByAccountId(account.getId());
-        if (employeeOpt.isPresent()) {
-            model.addAttribute("employee", employeeOpt.get());
+        if (principal.hasEmployee()) {
+            employeeRepository.findByAccountId(account.getId())
+                    .ifPresent(employee -> model.addAttribute("employee", employee));
         }
         
         return "profile/view";
     }
 
     @GetMapping("/profile/change-password")
-    public String showChangePasswordForm(Authentication authentication, Model model) {
-        if (authentication == null) {
+    public String showChangePasswordForm(@AuthenticationPrincipal AccountPrincipal principal, Model model) {
+        if (principal == null) {
             return "redirect:/login";
         }
         
-        String username = authentication.getName();
-        Optional<Account> accountOpt = accountRepository.findByUsername(username);
+        Optional<Account> accountOpt = accountRepository.findById(principal.getAccountId());
         if (accountOpt.isEmpty()) {
             model.addAttribute("errorMessage", "Account not found");
             return "redirect:/profile";
@@ -99,17 +92,16 @@ public class ProfileController {
     }
 
     @PostMapping("/profile/change-password")
-    public String changePassword(Authentication authentication,
+    public String changePassword(@AuthenticationPrincipal AccountPrincipal principal,
                                  @Valid @ModelAttribute("changePasswordDto") ChangePasswordDto dto,
                                  BindingResult result,
                                  Model model,
                                  RedirectAttributes redirectAttributes) {
-        if (authentication == null) {
+        if (principal == null) {
             return "redirect:/login";
         }
         
-        String username = authentication.getName();
-        Optional<Account> accountOpt = accountRepository.findByUsername(username);
+        Optional<Account> accountOpt = accountRepository.findById(principal.getAccountId());
         if (accountOpt.isEmpty()) {
             redirectAttributes.addFlashAttribute("errorMessage", "Account not found");
             return "redirect:/profile";
@@ -141,13 +133,12 @@ public class ProfileController {
     
     @GetMapping("/profile/edit")
     @Transactional(readOnly = true)
-    public String showEditProfileForm(Authentication authentication, Model model) {
-        if (authentication == null) {
+    public String showEditProfileForm(@AuthenticationPrincipal AccountPrincipal principal, Model model) {
+        if (principal == null) {
             return "redirect:/login";
         }
         
-        String username = authentication.getName();
-        Optional<Account> accountOpt = accountRepository.findByUsername(username);
+        Optional<Account> accountOpt = accountRepository.findById(principal.getAccountId());
         if (accountOpt.isEmpty()) {
             model.addAttribute("errorMessage", "Account not found");
             return "redirect:/profile";
@@ -170,6 +161,8 @@ public class ProfileController {
         dto.setDepartmentId(employee.getDepartment() != null ? employee.getDepartment().getId() : null);
         dto.setUsername(account.getUsername());
         dto.setEmail(account.getEmail());
+        dto.setVersion(employee.getVersion());
+        dto.setAccountVersion(account.getVersion());
         
         List<Department> departments = departmentRepository.findAll();
         model.addAttribute("employeeDto", dto);
@@ -182,17 +175,16 @@ public class ProfileController {
     }
     
     @PostMapping("/profile/update")
-    public String updateProfile(Authentication authentication,
+    public String updateProfile(@AuthenticationPrincipal AccountPrincipal principal,
                                @Valid @ModelAttribute("employeeDto") EmployeeRegistrationDto dto,
                                BindingResult result,
                                Model model,
                                RedirectAttributes redirectAttributes) {
-        if (authentication == null) {
+        if (principal == null) {
             return "redirect:/login";
         }
         
-        String username = authentication.getName();
-        Optional<Account> accountOpt = accountRepository.findByUsername(username);
+        Optional<Account> accountOpt = accountRepository.findById(principal.getAccountId());
         if (accountOpt.isEmpty()) {
             redirectAttributes.addFlashAttribute("errorMessage", "Account not found");
             return "redirect:/profile";
@@ -223,6 +215,10 @@ public class ProfileController {
         try {
             employeeService.update(employee.getId(), dto);
             redirectAttributes.addFlashAttribute("successMessage", "Profile updated successfully");
+        } catch (OptimisticLockingFailureException e) {
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "Your profile was changed by someone else while you were editing. Review the current details and apply your changes again.");
+            return "redirect:/profile/edit";
         } catch (IllegalArgumentException e) {
             String errorMsg = e.getMessage();
             if (errorMsg != null) {
@@ -249,19 +245,14 @@ public class ProfileController {
     
     @GetMapping("/employee/profile")
     @Transactional(readOnly = true)
-    public String showEmployeeProfile(Authentication authentication, Model model) {
-        if (authentication == null) {
+    public String showEmployeeProfile(@AuthenticationPrincipal AccountPrincipal principal, Model model) {
+        if (principal == null) {
             return "redirect:/login";
         }
         
-        String username = authentication.getName();
-        var account = accountRepository.findByUsername(username);
-        if (account.isEmpty()) {
-            model.addAttribute("errorMessage", "Account not found");
-            return "employee/profile";
-        }
-        
-        var employee = employeeRepository.findByAccountId(account.get().getId());
+        var employee = principal.hasEmployee()
+                ? employeeRepository.findByAccountId(principal.getAccountId())
+                : Optional.<Employee>empty();
         if (employee.isPresent()) {
             Employee emp = employee.get();
             model.addAttribute("employee", emp);
@@ -283,23 +274,15 @@ public class ProfileController {
     
     @GetMapping("/employee/projects")
     @Transactional(readOnly = true)
-    public String showMyProjects(Authentication authentication, Model model) {
-        if (authentication == null) {
+    public String showMyProjects(@AuthenticationPrincipal AccountPrincipal principal, Model model) {
+        if (principal == null) {
             return "redirect:/login";
         }
         
-        String username = authentication.getName();
-        var account = accountRepository.findByUsername(username);
-        if (account.isEmpty()) {
-            model.addAttribute("errorMessage", "Account not found");
-            return "employee/projects";
-        }
-        
-        var employee = employeeRepository.findByAccountId(account.get().getId());
-        if (employee.isPresent()) {
+        if (principal.hasEmployee()) {
             try {
                 List<ProjectAssignment> assignments = 
-                    projectAssignmentRepository.findByEmployeeId(employee.get().getId());
+                    projectAssignmentRepository.findByEmployeeId(principal.getEmployeeId());
                 model.addAttribute("assignments", assignments);
             } catch (Exception e) {
                 model.addAttribute("assignments", Collections.emptyList());
@@ -1,18 +1,21 @@
 package com.company.miniproject.controller;
 
+import com.company.miniproject.dto.CursorPage;
 import com.company.miniproject.dto.ProjectAssignmentDto;
+import com.company.miniproject.dto.ProjectListItemDto;
 import com.company.miniproject.entity.*;
-import com.company.miniproject.repository.AccountRepository;
-import com.company.miniproject.repository.EmployeeRepository;
+import com.company.miniproject.security.AccountPrincipal;
 import com.company.miniproject.service.ProjectService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Sort;
-import org.springframework.security.core.Authentication;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
@@ -22,19 +25,16 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/projects")
 public class ProjectController {
 
+    private static final int MAX_API_PAGE_SIZE = 100;
+
     @Autowired
     private ProjectService projectService;
-    
-    @Autowired
-    private EmployeeRepository employeeRepository;
-    
-    @Autowired
-    private AccountRepository accountRepository;
 
     @GetMapping
     @Transactional(readOnly = true)
@@ -42,8 +42,10 @@ public class ProjectController {
                               @RequestParam(defaultValue = "10") int size,
                               @RequestParam(required = false) String sortBy,
                               @RequestParam(required = false) String sortDir,
+                              @RequestParam(required = false) String after,
+                              @RequestParam(required = false) String mode,
                               Model model,
-                              Authentication authentication) {
+                              @AuthenticationPrincipal AccountPrincipal principal) {
         try {
             String sortField = (sortBy != null && !sortBy.trim().isEmpty()) ? sortBy : "name";
             Sort.Direction direction = (sortDir != null && sortDir.equalsIgnoreCase("desc")) 
@@ -54,37 +56,44 @@ public class ProjectController {
                 direction = Sort.Direction.ASC;
             }
             
-            Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
-            Page<Project> projectPage;
-            
-            boolean isEmployeeOnly = authentication != null && 
-                    authentication.getAuthorities().stream()
-                            .anyMatch(a -> a.getAuthority().equals("ROLE_EMPLOYEE")) &&
-                    !authentication.getAuthorities().stream()
-                            .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || 
-                                         a.getAuthority().equals("ROLE_MANAGER"));
+            boolean isEmployeeOnly = principal != null && principal.isEmployeeOnly();
+            Optional<Integer> employeeId = isEmployeeOnly ? Optional.ofNullable(principal.getEmployeeId()) : Optional.empty();
+            boolean keyset = (after != null || "keyset".equalsIgnoreCase(mode)) && isKeysetSortField(sortField);
             
-            if (isEmployeeOnly && authentication != null) {
-                String username = authentication.getName();
-                Optional<Account> accountOpt = accountRepository.findByUsername(username);
-                if (accountOpt.isPresent()) {
-                    Optional<Employee> employeeOpt = employeeRepository.findByAccountId(accountOpt.get().getId());
-                    if (employeeOpt.isPresent()) {
-                        projectPage = projectService.findByEmployeeId(employeeOpt.get().getId(), pageable);
+            if (keyset) {
+                CursorPage<Project> cursorPage;
+                if (isEmployeeOnly && employeeId.isEmpty()) {
+                    cursorPage = new CursorPage<>(List.of(), null, false);
+                } else {
+                    cursorPage = projectService.scrollProjects(
+                            employeeId.orElse(null), sortField, direction, after, size);
+                }
+                model.addAttribute("projects", cursorPage.getContent());
+                model.addAttribute("currentPage", 0);
+                model.addAttribute("totalPages", 0);
+                model.addAttribute("nextCursor", cursorPage.getNextCursor());
+                model.addAttribute("hasNext", cursorPage.isHasNext());
+            } else {
+                Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
+                Page<Project> projectPage;
+                
+                if (isEmployeeOnly) {
+                    if (employeeId.isPresent()) {
+                        projectPage = projectService.findByEmployeeId(employeeId.get(), pageable);
                     } else {
                         projectPage = new PageImpl<>(List.of(), pageable, 0);
                     }
                 } else {
-                    projectPage = new PageImpl<>(List.of(), pageable, 0);
+                    projectPage = projectService.findAll(pageable);
                 }
-            } else {
-                projectPage = projectService.findAll(pageable);
+                
+                model.addAttribute("projects", projectPage.getContent());
+                model.addAttribute("currentPage", page);
+                model.addAttribute("totalPages", projectPage.getTotalPages());
+                model.addAttribute("totalItems", projectPage.getTotalElements());
             }
             
-            model.addAttribute("projects", projectPage.getContent());
-            model.addAttribute("currentPage", page);
-            model.addAttribute("totalPages", projectPage.getTotalPages());
-            model.addAttribute("totalItems", projectPage.getTotalElements());
+            model.addAttribute("keyset", keyset);
             model.addAttribute("size", size);
             model.addAttribute("sortBy", sortField);
             model.addAttribute("sortDir", direction.toString().toLowerCase());
@@ -97,6 +106,40 @@ public class ProjectController {
         return "project/list";
     }
 
+    @GetMapping(value = "/api", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectListItemDto> listProjectsJson(@RequestParam(defaultValue = "10") int size,
+                                                           @RequestParam(required = false) String sortBy,
+                                                           @RequestParam(required = false) String sortDir,
+                                                           @RequestParam(required = false) String after,
+                                                           @AuthenticationPrincipal AccountPrincipal principal) {
+        String sortField = isKeysetSortField(sortBy) ? sortBy : "name";
+        Sort.Direction direction = (sortDir != null && sortDir.equalsIgnoreCase("desc")) 
+                ? Sort.Direction.DESC : Sort.Direction.ASC;
+        int pageSize = Math.max(1, Math.min(size, MAX_API_PAGE_SIZE));
+        
+        Integer employeeId = null;
+        if (principal != null && principal.isEmployeeOnly()) {
+            if (!principal.hasEmployee()) {
+                return new CursorPage<>(List.of(), null, false);
+            }
+            employeeId = principal.getEmployeeId();
+        }
+        
+        CursorPage<Project> cursorPage = projectService.scrollProjects(
+                employeeId, sortField, direction, after, pageSize);
+        List<ProjectListItemDto> items = cursorPage.getContent().stream()
+                .map(project -> new ProjectListItemDto(
+                        project.getId(),
+                        project.getName(),
+                        project.getStartDate(),
+                        project.getEndDate(),
+                        project.getStatus()))
+                .collect(Collectors.toList());
+        return new CursorPage<>(items, cursorPage.getNextCursor(), cursorPage.isHasNext());
+    }
+
     @GetMapping("/new")
     public String showCreateForm(Model model) {
         model.addAttribute("project", new Project());
@@ -139,7 +182,7 @@ public class ProjectController {
     @GetMapping("/{id}")
     @Transactional(readOnly = true)
     public String showProjectDetail(@PathVariable Integer id, Model model,
-                                   Authentication authentication) {
+                                   @AuthenticationPrincipal AccountPrincipal principal) {
         Project project = projectService.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + id));
         
@@ -149,10 +192,7 @@ public class ProjectController {
         model.addAttribute("assignments", assignments);
         model.addAttribute("statuses", ProjectStatus.values());
         
-        if (authentication != null && authentication.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_MANAGER"))) {
-            List<Employee> allEmployees = employeeRepository.findAllWithDepartment();
-            model.addAttribute("allEmployees", allEmployees);
+        if (principal != null && principal.isAdminOrManager()) {
             model.addAttribute("assignmentDto", new ProjectAssignmentDto());
         }
         
@@ -191,6 +231,10 @@ public class ProjectController {
         try {
             projectService.update(id, project);
             redirectAttributes.addFlashAttribute("successMessage", "Project updated successfully");
+        } catch (OptimisticLockingFailureException e) {
+            redirectAttributes.addFlashAttribute("errorMessage",
+                    "This project was changed by someone else while you were editing. Review the current details and apply your changes again.");
+            return "redirect:/projects/" + id + "/edit";
         } catch (IllegalArgumentException e) {
             redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
             model.addAttribute("statuses", ProjectStatus.values());
@@ -219,7 +263,6 @@ public class ProjectController {
                                      @Valid @ModelAttribute("assignmentDto") ProjectAssignmentDto dto,
                                      BindingResult result,
                                      Model model,
-                                     Authentication authentication,
                                      RedirectAttributes redirectAttributes) {
         Project project = projectService.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + id));
@@ -228,12 +271,6 @@ public class ProjectController {
         model.addAttribute("assignments", assignments);
         model.addAttribute("statuses", ProjectStatus.values());
         
-        if (authentication != null && authentication.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_MANAGER"))) {
-            List<Employee> allEmployees = employeeRepository.findAllWithDepartment();
-            model.addAttribute("allEmployees", allEmployees);
-        }
-        
         if (result.hasErrors()) {
             model.addAttribute("assignmentDto", dto);
             
@@ -278,4 +315,8 @@ public class ProjectController {
         return field != null && (field.equals("name") || field.equals("startDate") 
                 || field.equals("endDate") || field.equals("status"));
     }
+    
+    private boolean isKeysetSortField(String field) {
+        return field != null && field.equals("name");
+    }
 }
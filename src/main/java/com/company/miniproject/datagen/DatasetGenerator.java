@@ -0,0 +1,303 @@
+package com.company.miniproject.datagen;
+
+import com.company.miniproject.entity.AccountStatus;
+import com.company.miniproject.entity.ProjectStatus;
+import com.company.miniproject.search.SearchText;
+import com.company.miniproject.security.RoleName;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Fills the HR tables with a synthetic dataset of configurable size. Output depends only on the
+ * options and the seed (apart from the single BCrypt salt), so a slowness seen on one machine can be
+ * reproduced on another. Run against a schema created by the application's migrations, then restart
+ * the application so it rebuilds dashboard_stat and the name index:
+ *
+ *   ./mvnw -Pdatagen compile exec:java -Ddatagen.args="--url=jdbc:mysql://localhost:3306/human_resources
+ *       --user=root --db-password=... --employees=1000000 --seed=42 --truncate"
+ *
+ * or, to produce LOAD DATA files instead of inserting:
+ *
+ *   ./mvnw -Pdatagen compile exec:java -Ddatagen.args="--out=target/dataset --employees=1000000"
+ *   mysql --local-infile=1 human_resources < target/dataset/load.sql
+ *
+ * The generated data replaces the hand-written sample rows in data.sql (repository root) rather than
+ * adding to them: --truncate, and load.sql, empty every HR table first, so the admin1, manager1 and
+ * emp1..emp5 logins are gone afterwards. Sign in as "admin" or any generated username (first MANAGER
+ * per department, EMPLOYEE otherwise) with --password (default password123). To return to the sample
+ * rows, empty the tables again and run data.sql.
+ */
+public final class DatasetGenerator {
+
+    /** Fixed "today" so dates, and the project statuses derived from them, do not drift between runs. */
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2025, 1, 1);
+
+    private static final String[] TABLES_CHILDREN_FIRST = {
+            "project_assignment", "employee_search_term", "employee", "account_search_term", "account_role",
+            "account", "project", "department", "role", "dashboard_stat"};
+
+    private static final String[] DEPARTMENT_AREAS = {
+            "Engineering", "Sales", "Finance", "Human Resources", "Marketing", "Operations", "Customer Support",
+            "Legal", "Research", "Quality Assurance", "IT Infrastructure", "Logistics", "Procurement", "Design",
+            "Data Analytics"};
+    private static final String[] SITES = {
+            "Hà Nội", "Hồ Chí Minh", "Đà Nẵng", "Hải Phòng", "Cần Thơ", "Nha Trang", "Singapore", "Bangkok",
+            "Tokyo", "London"};
+    private static final String[] PROJECT_CODENAMES = {
+            "Phoenix", "Atlas", "Lotus", "Mekong", "Orion", "Saigon", "Halong", "Aurora", "Bamboo", "Comet",
+            "Delta", "Everest", "Falcon", "Granite", "Horizon", "Indigo", "Jade", "Kite", "Lantern", "Monsoon",
+            "Nova", "Pagoda", "Quartz", "River"};
+    private static final String[] PROJECT_ROLES = {"DEVELOPER", "TESTER", "BA", "DESIGNER", "DEVOPS", "PM"};
+    private static final WeightedSampler PROJECT_ROLE_WEIGHTS = new WeightedSampler(45, 20, 12, 8, 8, 7);
+    private static final WeightedSampler ASSIGNMENTS_PER_EMPLOYEE = new WeightedSampler(20, 40, 25, 10, 5);
+    private static final String[] STREETS = {
+            "Lê Lợi", "Nguyễn Huệ", "Trần Hưng Đạo", "Hai Bà Trưng", "Lý Thường Kiệt", "Điện Biên Phủ",
+            "Cách Mạng Tháng Tám", "Phan Đình Phùng", "Nguyễn Trãi", "Láng Hạ"};
+    private static final String[] PHONE_PREFIXES = {"03", "05", "07", "08", "09"};
+    private static final String[] EMAIL_DOMAINS = {"company.vn", "company.com"};
+
+    private final Options options;
+    private final RowSink sink;
+    private final SplittableRandom random;
+    private final NameGenerator names = new NameGenerator(0.7);
+    private final Map<RoleName, Integer> roleIds = new HashMap<>();
+    private int[] projectStartDays;
+    private int[] projectEndDays;
+    private int[] projectByRank;
+
+    private DatasetGenerator(Options options, RowSink sink) {
+        this.options = options;
+        this.sink = sink;
+        this.random = new SplittableRandom(options.seed());
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options = Options.parse(args);
+        long started = System.nanoTime();
+        try (RowSink sink = options.out() != null
+                ? new TsvRowSink(options.out())
+                : new JdbcRowSink(options.url(), options.user(), options.dbPassword(), options.batchSize())) {
+            new DatasetGenerator(options, sink).generate();
+        }
+        System.out.printf("Generated %,d employees in %.1f s%n",
+                options.employees(), (System.nanoTime() - started) / 1e9);
+    }
+
+    /** Replaces the HR data behind {@code url} with {@code employees} generated employees. */
+    public static void insert(String url, String user, String password, int employees, long seed) throws IOException {
+        Options options = Options.parse(new String[]{
+                "--url=" + url, "--user=" + user, "--db-password=" + password,
+                "--employees=" + employees, "--seed=" + seed, "--truncate"});
+        try (RowSink sink = new JdbcRowSink(url, user, password, options.batchSize())) {
+            new DatasetGenerator(options, sink).generate();
+        }
+    }
+
+    private void generate() throws IOException {
+        sink.reset(TABLES_CHILDREN_FIRST);
+        writeRoles();
+        writeDepartments();
+        writeProjects();
+        writeEmployees();
+    }
+
+    private void writeRoles() throws IOException {
+        RowSink.TableWriter roles = sink.table("role", "id", "name");
+        int id = 1;
+        for (RoleName role : RoleName.values()) {
+            roleIds.put(role, id);
+            roles.add(id++, role.name());
+        }
+    }
+
+    private void writeDepartments() throws IOException {
+        RowSink.TableWriter departments = sink.table("department", "id", "name", "description", "version");
+        int combinations = DEPARTMENT_AREAS.length * SITES.length;
+        for (int i = 0; i < options.departments(); i++) {
+            String area = DEPARTMENT_AREAS[i % DEPARTMENT_AREAS.length];
+            String site = SITES[(i / DEPARTMENT_AREAS.length) % SITES.length];
+            int round = i / combinations;
+            String name = area + " - " + site + (round > 0 ? " " + (round + 1) : "");
+            departments.add(i + 1, name, area + " team based in " + site, 0);
+        }
+    }
+
+    private void writeProjects() throws IOException {
+        RowSink.TableWriter projects = sink.table("project", "id", "name", "start_date", "end_date", "status", "version");
+        int count = options.projects();
+        projectStartDays = new int[count];
+        projectEndDays = new int[count];
+        for (int i = 0; i < count; i++) {
+            LocalDate start = random.nextDouble() < 0.05
+                    ? REFERENCE_DATE.plusDays(1 + random.nextInt(180))
+                    : REFERENCE_DATE.minusDays(random.nextInt(6 * 365));
+            LocalDate end = start.plusDays(30 + random.nextInt(690));
+            if (end.isAfter(REFERENCE_DATE) && random.nextDouble() < 0.5) {
+                end = null;
+            }
+            ProjectStatus status = start.isAfter(REFERENCE_DATE) ? ProjectStatus.Planning
+                    : end != null && end.isBefore(REFERENCE_DATE) ? ProjectStatus.Completed
+                    : ProjectStatus.Ongoing;
+
+            projectStartDays[i] = (int) start.toEpochDay();
+            projectEndDays[i] = (int) (end != null ? end : REFERENCE_DATE).toEpochDay();
+            projects.add(i + 1, PROJECT_CODENAMES[i % PROJECT_CODENAMES.length] + " " + (i + 1), start, end, status, 0);
+        }
+
+        // Popularity is Zipf over a shuffled rank order, so staffing is not correlated with project age.
+        projectByRank = new int[count];
+        for (int i = 0; i < count; i++) {
+            projectByRank[i] = i;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = projectByRank[i];
+            projectByRank[i] = projectByRank[j];
+            projectByRank[j] = swap;
+        }
+    }
+
+    private void writeEmployees() throws IOException {
+        RowSink.TableWriter accounts = sink.table("account", "id", "username", "password", "email", "status", "version");
+        RowSink.TableWriter accountRoles = sink.table("account_role", "account_id", "role_id");
+        RowSink.TableWriter accountTerms = sink.table("account_search_term", "account_id", "term");
+        RowSink.TableWriter employees = sink.table("employee",
+                "id", "full_name", "birth_date", "gender", "phone", "address", "department_id", "account_id", "version");
+        RowSink.TableWriter employeeTerms = sink.table("employee_search_term", "employee_id", "term");
+        RowSink.TableWriter assignments = sink.table("project_assignment",
+                "id", "project_id", "employee_id", "role_in_project", "join_date");
+
+        // One hash shared by every generated account: hashing a million passwords would dominate the run.
+        // The login path re-hashes it at the application's calibrated cost on first use.
+        String passwordHash = "{bcrypt}" + new BCryptPasswordEncoder(10).encode(options.password());
+
+        accounts.add(1, "admin", passwordHash, "admin@company.vn", AccountStatus.Active, 0);
+        accountRoles.add(1, roleIds.get(RoleName.ADMIN));
+        writeTerms(accountTerms, 1, SearchText.suffixes("admin", "admin@company.vn"));
+
+        WeightedSampler departmentSizes = WeightedSampler.zipf(options.departments(), 1.07);
+        WeightedSampler projectPopularity = WeightedSampler.zipf(options.projects(), 0.9);
+        boolean[] departmentHasManager = new boolean[options.departments()];
+        int assignmentId = 1;
+
+        for (int id = 1; id <= options.employees(); id++) {
+            int accountId = id + 1;
+            NameGenerator.GeneratedName name = names.next(random);
+            Integer departmentId = null;
+            RoleName role = RoleName.EMPLOYEE;
+            if (random.nextDouble() >= 0.02) {
+                int department = departmentSizes.sample(random);
+                departmentId = department + 1;
+                if (!departmentHasManager[department]) {
+                    departmentHasManager[department] = true;
+                    role = RoleName.MANAGER;
+                }
+            }
+
+            String username = SearchText.fold(name.fullName()).replace(' ', '.') + "." + id;
+            String email = username + "@" + EMAIL_DOMAINS[id % EMAIL_DOMAINS.length];
+            AccountStatus status = random.nextDouble() < 0.04 ? AccountStatus.Blocked : AccountStatus.Active;
+            accounts.add(accountId, username, passwordHash, email, status, 0);
+            accountRoles.add(accountId, roleIds.get(role));
+            writeTerms(accountTerms, accountId, SearchText.suffixes(username, email));
+
+            int age = 22 + (int) (38 * (random.nextDouble() + random.nextDouble()) / 2);
+            LocalDate birthDate = REFERENCE_DATE.minusYears(age).minusDays(random.nextInt(365));
+            String address = random.nextDouble() < 0.1 ? null
+                    : (1 + random.nextInt(300)) + " " + NameGenerator.pick(random, STREETS) + ", "
+                    + NameGenerator.pick(random, SITES);
+            employees.add(id, name.fullName(), birthDate, name.gender(), phone(id), address, departmentId, accountId, 0);
+            writeTerms(employeeTerms, id, SearchText.suffixes(name.fullName()));
+
+            int assignmentCount = Math.min(ASSIGNMENTS_PER_EMPLOYEE.sample(random), options.projects());
+            int[] chosen = new int[assignmentCount];
+            for (int a = 0; a < assignmentCount; a++) {
+                int project = pickDistinctProject(projectPopularity, chosen, a);
+                if (project < 0) {
+                    break;
+                }
+                chosen[a] = project;
+                int span = projectEndDays[project] - projectStartDays[project];
+                LocalDate joinDate = LocalDate.ofEpochDay(projectStartDays[project] + (span > 0 ? random.nextInt(span + 1) : 0));
+                assignments.add(assignmentId++, project + 1, id,
+                        PROJECT_ROLES[PROJECT_ROLE_WEIGHTS.sample(random)], joinDate);
+            }
+
+            if (id % 100_000 == 0) {
+                System.out.printf("  %,d employees%n", id);
+            }
+        }
+    }
+
+    /** Returns a project not among the first {@code count} chosen, or -1 after a few collisions. */
+    private int pickDistinctProject(WeightedSampler popularity, int[] chosen, int count) {
+        for (int attempt = 0; attempt < 5; attempt++) {
+            int project = projectByRank[popularity.sample(random)];
+            boolean duplicate = false;
+            for (int i = 0; i < count; i++) {
+                duplicate |= chosen[i] == project;
+            }
+            if (!duplicate) {
+                return project;
+            }
+        }
+        return -1;
+    }
+
+    private static void writeTerms(RowSink.TableWriter terms, int ownerId, Iterable<String> values) throws IOException {
+        for (String term : values) {
+            terms.add(ownerId, term);
+        }
+    }
+
+    /** Unique per id: the 8 digits are a bijection of id modulo 10^8 (7919 is coprime to 10). */
+    private static String phone(int id) {
+        long digits = (id * 7919L + 12_345L) % 100_000_000L;
+        return PHONE_PREFIXES[id % PHONE_PREFIXES.length] + String.format("%08d", digits);
+    }
+
+    record Options(int employees, int departments, int projects, long seed, int batchSize, String password,
+                   String url, String user, String dbPassword, Path out) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Unexpected argument: " + arg);
+                }
+                int equals = arg.indexOf('=');
+                values.put(equals < 0 ? arg.substring(2) : arg.substring(2, equals),
+                        equals < 0 ? "true" : arg.substring(equals + 1));
+            }
+
+            int employees = Integer.parseInt(values.getOrDefault("employees", "100000"));
+            int departments = Integer.parseInt(values.getOrDefault("departments",
+                    String.valueOf(Math.max(10, employees / 5_000))));
+            int projects = Integer.parseInt(values.getOrDefault("projects",
+                    String.valueOf(Math.max(10, employees / 40))));
+            Path out = values.containsKey("out") ? Path.of(values.get("out")) : null;
+            String url = values.get("url");
+
+            if (out == null && url == null) {
+                throw new IllegalArgumentException("Pass --url=<jdbc url> to insert or --out=<dir> to write LOAD DATA files");
+            }
+            if (out == null && !Boolean.parseBoolean(values.get("truncate"))) {
+                throw new IllegalArgumentException("Inserting replaces all HR data in " + url + "; pass --truncate to confirm");
+            }
+            return new Options(employees, departments, projects,
+                    Long.parseLong(values.getOrDefault("seed", "42")),
+                    Integer.parseInt(values.getOrDefault("batch-size", "5000")),
+                    values.getOrDefault("password", "password123"),
+                    url,
+                    values.getOrDefault("user", "root"),
+                    values.getOrDefault("db-password", ""),
+                    out);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.company.miniproject.datagen;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Inserts through JDBC batches. {@code rewriteBatchedStatements=true} makes Connector/J send each
+ * batch as one multi-row INSERT; unique and foreign key checks are off for the session, and each
+ * batch is committed on its own so the undo log stays small. H2 is supported for the embedded
+ * benchmark database.
+ */
+final class JdbcRowSink implements RowSink {
+
+    private final Connection connection;
+    private final int batchSize;
+    private final List<JdbcTableWriter> writers = new ArrayList<>();
+    private final String[] disableChecks;
+    private final String[] enableChecks;
+
+    JdbcRowSink(String url, String user, String password, int batchSize) throws IOException {
+        this.batchSize = batchSize;
+        try {
+            boolean mysql = url.startsWith("jdbc:mysql:");
+            String batchUrl = !mysql || url.contains("rewriteBatchedStatements") ? url
+                    : url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+            this.connection = DriverManager.getConnection(batchUrl, user, password);
+            this.disableChecks = mysql
+                    ? new String[]{"SET unique_checks = 0", "SET foreign_key_checks = 0"}
+                    : new String[]{"SET REFERENTIAL_INTEGRITY FALSE"};
+            this.enableChecks = mysql
+                    ? new String[]{"SET unique_checks = 1", "SET foreign_key_checks = 1"}
+                    : new String[]{"SET REFERENTIAL_INTEGRITY TRUE"};
+            connection.setAutoCommit(false);
+            execute(disableChecks);
+        } catch (SQLException e) {
+            throw new IOException("Cannot connect to " + url, e);
+        }
+    }
+
+    @Override
+    public TableWriter table(String table, String... columns) throws IOException {
+        String placeholders = String.join(", ", Collections.nCopies(columns.length, "?"));
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + placeholders + ")";
+        try {
+            JdbcTableWriter writer = new JdbcTableWriter(connection.prepareStatement(sql));
+            writers.add(writer);
+            return writer;
+        } catch (SQLException e) {
+            throw new IOException("Cannot prepare insert into " + table, e);
+        }
+    }
+
+    @Override
+    public void reset(String... tables) throws IOException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : tables) {
+                statement.execute("TRUNCATE TABLE " + table);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            throw new IOException("Cannot truncate tables", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            for (JdbcTableWriter writer : writers) {
+                writer.flush();
+                writer.statement.close();
+            }
+            execute(enableChecks);
+            connection.commit();
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Cannot finish batch inserts", e);
+        }
+    }
+
+    private void execute(String[] statements) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private final class JdbcTableWriter implements TableWriter {
+
+        private final PreparedStatement statement;
+        private int pending;
+
+        private JdbcTableWriter(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public void add(Object... values) throws IOException {
+            try {
+                for (int i = 0; i < values.length; i++) {
+                    statement.setObject(i + 1, values[i] == null ? null : bindable(values[i]));
+                }
+                statement.addBatch();
+                if (++pending == batchSize) {
+                    flush();
+                }
+            } catch (SQLException e) {
+                throw new IOException("Batch insert failed", e);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (pending == 0) {
+                return;
+            }
+            try {
+                statement.executeBatch();
+                connection.commit();
+                pending = 0;
+            } catch (SQLException e) {
+                throw new IOException("Batch insert failed", e);
+            }
+        }
+
+        private Object bindable(Object value) {
+            return value instanceof Enum<?> ? RowSink.format(value) : value;
+        }
+    }
+}
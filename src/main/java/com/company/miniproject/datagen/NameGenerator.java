@@ -0,0 +1,65 @@
+package com.company.miniproject.datagen;
+
+import com.company.miniproject.entity.Gender;
+
+import java.util.SplittableRandom;
+
+/**
+ * Vietnamese and English full names. Vietnamese family names follow their approximate national
+ * frequency (Nguyễn alone is about 38%), so name searches hit the same skew as production.
+ */
+final class NameGenerator {
+
+    record GeneratedName(String fullName, Gender gender) {
+    }
+
+    private static final String[] VI_FAMILY = {
+            "Nguyễn", "Trần", "Lê", "Phạm", "Hoàng", "Huỳnh", "Phan", "Vũ", "Võ", "Đặng",
+            "Bùi", "Đỗ", "Hồ", "Ngô", "Dương", "Lý"};
+    private static final WeightedSampler VI_FAMILY_WEIGHTS = new WeightedSampler(
+            38, 11, 9.5, 7, 5.1, 4.1, 4.5, 3.9, 3.8, 2.1, 2, 1.4, 1.3, 1.3, 1, 0.5);
+    private static final String[] VI_MALE_MIDDLE = {"Văn", "Hữu", "Đức", "Minh", "Quang", "Công", "Thành", "Gia"};
+    private static final String[] VI_FEMALE_MIDDLE = {"Thị", "Ngọc", "Thu", "Thanh", "Diệu", "Khánh", "Bảo", "Mai"};
+    private static final String[] VI_MALE_GIVEN = {
+            "An", "Bình", "Cường", "Dũng", "Duy", "Hải", "Hiếu", "Hùng", "Huy", "Khoa",
+            "Khánh", "Long", "Nam", "Phong", "Phúc", "Quân", "Sơn", "Tài", "Thắng", "Tuấn",
+            "Việt", "Vinh", "Trung", "Tùng", "Đạt"};
+    private static final String[] VI_FEMALE_GIVEN = {
+            "Anh", "Chi", "Dung", "Giang", "Hà", "Hạnh", "Hoa", "Hương", "Lan", "Linh",
+            "Loan", "Mai", "My", "Ngân", "Nhung", "Oanh", "Phương", "Quỳnh", "Thảo", "Trang",
+            "Trâm", "Uyên", "Vân", "Vy", "Yến"};
+    private static final String[] EN_MALE_GIVEN = {
+            "James", "John", "Robert", "Michael", "William", "David", "Daniel", "Matthew", "Andrew", "Thomas",
+            "Christopher", "Joseph", "Ryan", "Kevin", "Brian"};
+    private static final String[] EN_FEMALE_GIVEN = {
+            "Mary", "Patricia", "Jennifer", "Linda", "Elizabeth", "Sarah", "Emily", "Jessica", "Laura", "Emma",
+            "Olivia", "Sophia", "Hannah", "Grace", "Chloe"};
+    private static final String[] EN_FAMILY = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Miller", "Davis", "Wilson", "Anderson", "Taylor",
+            "Thomas", "Moore", "Martin", "Jackson", "Thompson", "White", "Harris", "Clark", "Lewis", "Walker"};
+
+    private final double vietnameseShare;
+
+    NameGenerator(double vietnameseShare) {
+        this.vietnameseShare = vietnameseShare;
+    }
+
+    GeneratedName next(SplittableRandom random) {
+        double genderRoll = random.nextDouble();
+        Gender gender = genderRoll < 0.495 ? Gender.Male : genderRoll < 0.99 ? Gender.Female : Gender.Other;
+        boolean female = gender == Gender.Female || (gender == Gender.Other && random.nextBoolean());
+
+        if (random.nextDouble() < vietnameseShare) {
+            String family = VI_FAMILY[VI_FAMILY_WEIGHTS.sample(random)];
+            String middle = pick(random, female ? VI_FEMALE_MIDDLE : VI_MALE_MIDDLE);
+            String given = pick(random, female ? VI_FEMALE_GIVEN : VI_MALE_GIVEN);
+            return new GeneratedName(family + " " + middle + " " + given, gender);
+        }
+        String given = pick(random, female ? EN_FEMALE_GIVEN : EN_MALE_GIVEN);
+        return new GeneratedName(given + " " + pick(random, EN_FAMILY), gender);
+    }
+
+    static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
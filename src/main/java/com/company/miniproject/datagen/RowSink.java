@@ -0,0 +1,32 @@
+package com.company.miniproject.datagen;
+
+import java.io.IOException;
+
+/**
+ * Destination for generated rows. Several tables may be open at once; rows within a table are
+ * written in generation order.
+ */
+interface RowSink extends AutoCloseable {
+
+    TableWriter table(String table, String... columns) throws IOException;
+
+    /** Removes existing rows from the given tables before generation (children first). */
+    void reset(String... tables) throws IOException;
+
+    @Override
+    void close() throws IOException;
+
+    interface TableWriter {
+
+        void add(Object... values) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    static String format(Object value) {
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value.toString();
+    }
+}
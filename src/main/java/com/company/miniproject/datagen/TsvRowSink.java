@@ -0,0 +1,98 @@
+package com.company.miniproject.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes one tab-separated file per table plus a {@code load.sql} script of
+ * {@code LOAD DATA LOCAL INFILE} statements, for loading with {@code mysql --local-infile=1}.
+ */
+final class TsvRowSink implements RowSink {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final List<String> resetTables = new ArrayList<>();
+    private final List<TsvTableWriter> writers = new ArrayList<>();
+
+    TsvRowSink(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    @Override
+    public TableWriter table(String table, String... columns) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(
+                Files.newOutputStream(directory.resolve(table + ".tsv")), StandardCharsets.UTF_8), BUFFER_SIZE);
+        TsvTableWriter writer = new TsvTableWriter(table, columns, out);
+        writers.add(writer);
+        return writer;
+    }
+
+    @Override
+    public void reset(String... tables) {
+        resetTables.addAll(List.of(tables));
+    }
+
+    @Override
+    public void close() throws IOException {
+        StringBuilder script = new StringBuilder()
+                .append("SET unique_checks = 0;\n")
+                .append("SET foreign_key_checks = 0;\n");
+        for (String table : resetTables) {
+            script.append("TRUNCATE TABLE ").append(table).append(";\n");
+        }
+        for (TsvTableWriter writer : writers) {
+            writer.out.close();
+            script.append("LOAD DATA LOCAL INFILE '").append(directory.resolve(writer.table + ".tsv").toAbsolutePath())
+                    .append("' INTO TABLE ").append(writer.table)
+                    .append(" CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (")
+                    .append(String.join(", ", writer.columns)).append(");\n");
+        }
+        script.append("SET foreign_key_checks = 1;\n")
+                .append("SET unique_checks = 1;\n");
+        Files.writeString(directory.resolve("load.sql"), script, StandardCharsets.UTF_8);
+    }
+
+    private static final class TsvTableWriter implements TableWriter {
+
+        private final String table;
+        private final String[] columns;
+        private final Writer out;
+
+        private TsvTableWriter(String table, String[] columns, Writer out) {
+            this.table = table;
+            this.columns = columns;
+            this.out = out;
+        }
+
+        @Override
+        public void add(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.write('\t');
+                }
+                out.write(values[i] == null ? "\\N" : escape(RowSink.format(values[i])));
+            }
+            out.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf('\\') < 0 && value.indexOf('\t') < 0 && value.indexOf('\n') < 0) {
+                return value;
+            }
+            return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.miniproject.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples indexes {@code 0..n-1} in proportion to fixed weights via binary search over the
+ * cumulative distribution.
+ */
+final class WeightedSampler {
+
+    private final double[] cumulative;
+
+    WeightedSampler(double... weights) {
+        this.cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    /** Zipf-like weights {@code 1 / (rank ^ exponent)}: a few large buckets and a long tail. */
+    static WeightedSampler zipf(int n, double exponent) {
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, exponent);
+        }
+        return new WeightedSampler(weights);
+    }
+
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
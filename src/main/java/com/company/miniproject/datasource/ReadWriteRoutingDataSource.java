@@ -0,0 +1,98 @@
+package com.company.miniproject.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the primary.
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the
+ * connection is fetched after the transaction's read-only flag is known.
+ * <p>
+ * Reads still go to the primary when the replica is lagging or down ({@link ReplicaLagMonitor}), and
+ * for {@code readYourWritesWindow} after a committed read-write transaction in the same HTTP
+ * session, so a redirect after a save shows the saved data even if the replica has not caught up.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String LAST_WRITE_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".LAST_WRITE";
+
+    private enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Duration readYourWritesWindow;
+    private final Clock clock;
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      Duration readYourWritesWindow, Clock clock, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.clock = clock;
+        this.primaryConnections = routedCounter(meterRegistry, Target.PRIMARY);
+        this.replicaConnections = routedCounter(meterRegistry, Target.REPLICA);
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriteOnCommit();
+            primaryConnections.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable() || wroteRecently()) {
+            primaryConnections.increment();
+            return Target.PRIMARY;
+        }
+        replicaConnections.increment();
+        return Target.REPLICA;
+    }
+
+    private boolean wroteRecently() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return false;
+        }
+        Object lastWrite = request.getAttribute(LAST_WRITE_ATTRIBUTE, RequestAttributes.SCOPE_SESSION);
+        if (lastWrite == null) {
+            lastWrite = request.getAttribute(LAST_WRITE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+        return lastWrite instanceof Instant at && clock.instant().isBefore(at.plus(readYourWritesWindow));
+    }
+
+    private void rememberWriteOnCommit() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                Instant now = clock.instant();
+                request.setAttribute(LAST_WRITE_ATTRIBUTE, now, RequestAttributes.SCOPE_REQUEST);
+                request.setAttribute(LAST_WRITE_ATTRIBUTE, now, RequestAttributes.SCOPE_SESSION);
+            }
+        });
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, Target target) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out by the read/write routing data source")
+                .tag("target", target.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
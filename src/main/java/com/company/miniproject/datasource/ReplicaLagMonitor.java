@@ -0,0 +1,84 @@
+package com.company.miniproject.datasource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the replica and decides whether read-only transactions may use it. With a lag query, the
+ * replica is usable while the reported lag (in seconds) is within {@code maxLag}; a NULL lag means
+ * replication is stopped. Without one, it is usable while a connection can be validated. Any
+ * failure marks it unusable until the next successful check, so reads fall back to the primary.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-lag-monitor").daemon(true).factory());
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, String lagColumn,
+                             Duration maxLag, Duration checkInterval) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    public void start() {
+        check();
+        scheduler.scheduleWithFixedDelay(this::check,
+                checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    /** Last measured lag in seconds; NaN when unknown (no lag query, or the last check failed). */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    void check() {
+        try (Connection connection = replica.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                lagSeconds = Double.NaN;
+                usable = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+                return;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                Object lag = null;
+                if (resultSet.next()) {
+                    lag = resultSet.getObject(lagColumn == null || lagColumn.isBlank() ? 1 : resultSet.findColumn(lagColumn));
+                }
+                lagSeconds = lag != null ? ((Number) lag).doubleValue() : Double.NaN;
+                usable = lag != null && lagSeconds * 1000 <= maxLag.toMillis();
+            }
+        } catch (SQLException | RuntimeException e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+        }
+    }
+}
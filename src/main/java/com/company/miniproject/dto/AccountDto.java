@@ -34,6 +34,9 @@ public class AccountDto {
     
     @NotNull(message = "At least one role is required")
     private Set<Integer> roleIds;
+    
+    /** Account version the form was rendered from; null skips the stale-edit check. */
+    private Long version;
 }
 
 
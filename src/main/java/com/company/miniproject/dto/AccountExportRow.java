@@ -0,0 +1,23 @@
+package com.company.miniproject.dto;
+
+import com.company.miniproject.entity.AccountStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountExportRow {
+    
+    private Integer id;
+    
+    private String username;
+    
+    private String email;
+    
+    private AccountStatus status;
+    
+    /** Comma-separated role names, aggregated in the query. */
+    private String roles;
+}
@@ -0,0 +1,24 @@
+package com.company.miniproject.dto;
+
+import com.company.miniproject.entity.AccountStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountListItemDto {
+    
+    private Integer id;
+    
+    private String username;
+    
+    private String email;
+    
+    private AccountStatus status;
+    
+    private Set<String> roles;
+}
@@ -0,0 +1,19 @@
+package com.company.miniproject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    
+    private List<T> content;
+    
+    private String nextCursor;
+    
+    private boolean hasNext;
+}
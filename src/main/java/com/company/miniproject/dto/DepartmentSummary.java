@@ -0,0 +1,19 @@
+package com.company.miniproject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentSummary {
+    
+    private Integer id;
+    
+    private String name;
+    
+    private String description;
+    
+    private Long employeeCount;
+}
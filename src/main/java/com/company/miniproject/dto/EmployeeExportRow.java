@@ -0,0 +1,35 @@
+package com.company.miniproject.dto;
+
+import com.company.miniproject.entity.AccountStatus;
+import com.company.miniproject.entity.Gender;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeExportRow {
+    
+    private Integer id;
+    
+    private String fullName;
+    
+    private LocalDate birthDate;
+    
+    private Gender gender;
+    
+    private String phone;
+    
+    private String address;
+    
+    private String departmentName;
+    
+    private String username;
+    
+    private String email;
+    
+    private AccountStatus status;
+}
@@ -0,0 +1,15 @@
+package com.company.miniproject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeImportError {
+    
+    private long rowNumber;
+    
+    private String message;
+}
@@ -0,0 +1,22 @@
+package com.company.miniproject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeImportResult {
+    
+    private long totalRows;
+    
+    private long importedCount;
+    
+    private long failedCount;
+    
+    /** Row errors in file order, capped so a badly broken file cannot blow up the response. */
+    private List<EmployeeImportError> errors;
+}
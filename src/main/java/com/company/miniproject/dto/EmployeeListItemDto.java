@@ -0,0 +1,24 @@
+package com.company.miniproject.dto;
+
+import com.company.miniproject.entity.Gender;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeListItemDto {
+    
+    private Integer id;
+    
+    private String fullName;
+    
+    private String email;
+    
+    private String phone;
+    
+    private String departmentName;
+    
+    private Gender gender;
+}
@@ -0,0 +1,17 @@
+package com.company.miniproject.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeOptionDto {
+    
+    private Integer id;
+    
+    private String fullName;
+    
+    private String departmentName;
+}
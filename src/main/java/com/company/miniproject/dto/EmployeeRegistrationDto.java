@@ -45,4 +45,9 @@ public class EmployeeRegistrationDto {
     
     @Size(min = 6, message = "Password must be at least 6 characters")
     private String password;
+    
+    /** Employee and account versions the form was rendered from; null skips the stale-edit check. */
+    private Long version;
+    
+    private Long accountVersion;
 }
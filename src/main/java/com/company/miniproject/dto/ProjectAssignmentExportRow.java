@@ -0,0 +1,28 @@
+package com.company.miniproject.dto;
+
+import com.company.miniproject.entity.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectAssignmentExportRow {
+    
+    private Integer id;
+    
+    private String projectName;
+    
+    private ProjectStatus projectStatus;
+    
+    private String employeeName;
+    
+    private String departmentName;
+    
+    private String roleInProject;
+    
+    private LocalDate joinDate;
+}
@@ -0,0 +1,24 @@
+package com.company.miniproject.dto;
+
+import com.company.miniproject.entity.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectListItemDto {
+    
+    private Integer id;
+    
+    private String name;
+    
+    private LocalDate startDate;
+    
+    private LocalDate endDate;
+    
+    private ProjectStatus status;
+}
@@ -1,19 +1,27 @@
 package com.company.miniproject.entity;
 
+import com.company.miniproject.search.SearchText;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 @Entity
-@Table(name = "account")
+@Table(name = "account", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_username", columnNames = "username"),
+        @UniqueConstraint(name = "uk_account_email", columnNames = "email")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@ToString(exclude = {"roles", "employee"})
-@EqualsAndHashCode(exclude = {"roles", "employee"})
+@ToString(exclude = {"roles", "employee", "searchTerms"})
+@EqualsAndHashCode(exclude = {"roles", "employee", "searchTerms"})
 public class Account {
 
     @Id
@@ -21,20 +29,27 @@ public class Account {
     @Column(name = "id")
     private Integer id;
 
-    @Column(name = "username", unique = true, nullable = false, length = 50)
+    @Column(name = "username", nullable = false, length = 50)
     private String username;
 
     @Column(name = "password", nullable = false)
     private String password;
 
-    @Column(name = "email", unique = true, nullable = false)
+    @Column(name = "email", nullable = false)
     private String email;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private AccountStatus status;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Roles of accounts missing from the cache are loaded for a whole list page in one statement.
     @ManyToMany(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account.roles")
     @JoinTable(
             name = "account_role",
             joinColumns = @JoinColumn(name = "account_id"),
@@ -45,10 +60,52 @@ public class Account {
     @OneToOne(mappedBy = "account", cascade = CascadeType.ALL)
     private Employee employee;
 
+    @ElementCollection
+    @CollectionTable(
+            name = "account_search_term",
+            joinColumns = @JoinColumn(name = "account_id"),
+            indexes = @Index(name = "idx_account_search_term", columnList = "term")
+    )
+    @Column(name = "term", nullable = false, length = SearchText.MAX_TERM_LENGTH)
+    private Set<String> searchTerms = new HashSet<>();
+
     public Account(String username, String password, String email, AccountStatus status) {
         this.username = username;
         this.password = password;
-        this.email = email;
+        this.email = normalizeEmail(email);
         this.status = status;
+        refreshSearchTerms();
+    }
+
+    public void setUsername(String username) {
+        boolean termsChange = !SearchText.fold(username).equals(SearchText.fold(this.username));
+        this.username = username;
+        if (termsChange) {
+            refreshSearchTerms();
+        }
+    }
+
+    public void setEmail(String email) {
+        String normalized = normalizeEmail(email);
+        boolean termsChange = !SearchText.fold(normalized).equals(SearchText.fold(this.email));
+        this.email = normalized;
+        if (termsChange) {
+            refreshSearchTerms();
+        }
+    }
+
+    /**
+     * Emails are stored trimmed and lower-cased, so uk_account_email rejects case variants whatever
+     * the column collation, and lookups compare with plain equality.
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Brings the term rows in line with username and email, adding and removing only the suffixes that differ. */
+    public void refreshSearchTerms() {
+        Set<String> terms = SearchText.suffixes(username, email);
+        this.searchTerms.retainAll(terms);
+        this.searchTerms.addAll(terms);
     }
 }
\ No newline at end of file
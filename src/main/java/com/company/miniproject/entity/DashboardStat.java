@@ -0,0 +1,25 @@
+package com.company.miniproject.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "dashboard_stat")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode
+public class DashboardStat {
+
+    @Id
+    @Column(name = "stat_key", length = 100)
+    private String statKey;
+
+    @Column(name = "label")
+    private String label;
+
+    @Column(name = "stat_value", nullable = false)
+    private Long statValue;
+}
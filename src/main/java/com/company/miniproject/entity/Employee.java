@@ -1,5 +1,6 @@
 package com.company.miniproject.entity;
 
+import com.company.miniproject.search.SearchText;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -8,13 +9,13 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "employee")
+@Table(name = "employee", uniqueConstraints = @UniqueConstraint(name = "uk_employee_phone", columnNames = "phone"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@ToString(exclude = {"department", "account", "assignments"})
-@EqualsAndHashCode(exclude = {"department", "account", "assignments"})
+@ToString(exclude = {"department", "account", "assignments", "searchTerms"})
+@EqualsAndHashCode(exclude = {"department", "account", "assignments", "searchTerms"})
 public class Employee {
 
     @Id
@@ -32,7 +33,7 @@ public class Employee {
     @Column(name = "gender", nullable = false)
     private Gender gender;
 
-    @Column(name = "phone", unique = true, nullable = false, length = 30)
+    @Column(name = "phone", nullable = false, length = 30)
     private String phone;
 
     @Column(name = "address")
@@ -46,9 +47,37 @@ public class Employee {
     @JoinColumn(name = "account_id", unique = true, nullable = false)
     private Account account;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "employee", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ProjectAssignment> assignments = new HashSet<>();
 
+    @ElementCollection
+    @CollectionTable(
+            name = "employee_search_term",
+            joinColumns = @JoinColumn(name = "employee_id"),
+            indexes = @Index(name = "idx_employee_search_term", columnList = "term")
+    )
+    @Column(name = "term", nullable = false, length = SearchText.MAX_TERM_LENGTH)
+    private Set<String> searchTerms = new HashSet<>();
+
+    public void setFullName(String fullName) {
+        boolean termsChange = !SearchText.fold(fullName).equals(SearchText.fold(this.fullName));
+        this.fullName = fullName;
+        if (termsChange) {
+            refreshSearchTerms();
+        }
+    }
+
+    /** Brings the term rows in line with the name, adding and removing only the suffixes that differ. */
+    public void refreshSearchTerms() {
+        Set<String> terms = SearchText.suffixes(fullName);
+        this.searchTerms.retainAll(terms);
+        this.searchTerms.addAll(terms);
+    }
+
     public void setDepartment(Department department) {
         this.department = department;
         if (department != null) {
@@ -0,0 +1,37 @@
+package com.company.miniproject.export;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class CsvRowWriter implements RowWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CSVPrinter printer;
+
+    public CsvRowWriter(OutputStream out, List<String> header) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        // BOM so Excel opens Vietnamese names as UTF-8
+        writer.write('\uFEFF');
+        this.printer = new CSVPrinter(writer, CSVFormat.DEFAULT.builder()
+                .setHeader(header.toArray(String[]::new))
+                .get());
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        printer.printRecord(values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        printer.close(true);
+    }
+}
@@ -0,0 +1,13 @@
+package com.company.miniproject.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes one tabular row at a time. Implementations keep only a bounded window of rows in memory,
+ * so export size does not affect heap use.
+ */
+public interface RowWriter extends Closeable {
+    
+    void writeRow(Object... values) throws IOException;
+}
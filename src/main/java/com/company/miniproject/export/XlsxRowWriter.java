@@ -0,0 +1,81 @@
+package com.company.miniproject.export;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Streams rows through an {@link SXSSFWorkbook}: only the last {@value #ROW_WINDOW} rows stay in
+ * memory, older rows are flushed to a compressed temp file. Continues on a new sheet when a
+ * sheet reaches the XLSX row limit.
+ */
+public class XlsxRowWriter implements RowWriter {
+
+    private static final int ROW_WINDOW = 100;
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    private final OutputStream out;
+    private final List<String> header;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle dateStyle;
+    private SXSSFSheet sheet;
+    private int rowIndex;
+
+    public XlsxRowWriter(OutputStream out, List<String> header) {
+        this.out = out;
+        this.header = header;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.dateStyle = workbook.createCellStyle();
+        this.dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+        newSheet();
+    }
+
+    @Override
+    public void writeRow(Object... values) {
+        if (rowIndex == MAX_ROWS_PER_SHEET) {
+            newSheet();
+        }
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Number number) {
+                row.createCell(i).setCellValue(number.doubleValue());
+            } else if (value instanceof LocalDate date) {
+                row.createCell(i).setCellValue(date);
+                row.getCell(i).setCellStyle(dateStyle);
+            } else {
+                row.createCell(i).setCellValue(value.toString());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.close();
+        }
+    }
+
+    private void newSheet() {
+        sheet = workbook.createSheet("Sheet" + (workbook.getNumberOfSheets() + 1));
+        rowIndex = 0;
+        Row headerRow = sheet.createRow(rowIndex++);
+        for (int i = 0; i < header.size(); i++) {
+            headerRow.createCell(i).setCellValue(header.get(i));
+        }
+    }
+}
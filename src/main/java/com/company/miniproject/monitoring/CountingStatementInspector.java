@@ -0,0 +1,16 @@
+package com.company.miniproject.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Feeds {@link SqlStatementCounter}. Hibernate calls this once per statement it prepares, so a JDBC
+ * batch counts once however many rows it carries; plain JdbcTemplate calls bypass it.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementCounter.increment();
+        return sql;
+    }
+}
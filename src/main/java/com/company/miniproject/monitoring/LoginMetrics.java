@@ -0,0 +1,45 @@
+package com.company.miniproject.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+
+/**
+ * Counts form-login outcomes from Spring Security's authentication events as {@value #METRIC},
+ * tagged result=success or result=failure with the failure's exception as reason
+ * (BadCredentialsException, LockedException, ...). Attempts turned away by the login rate limiter
+ * never reach authentication and are not counted here.
+ */
+public class LoginMetrics {
+
+    public static final String METRIC = "security.logins";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter successes;
+
+    public LoginMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.successes = Counter.builder(METRIC)
+                .description("Login attempts by outcome")
+                .tag("result", "success")
+                .tag("reason", "none")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        successes.increment();
+    }
+
+    @EventListener
+    public void onFailure(AbstractAuthenticationFailureEvent event) {
+        Counter.builder(METRIC)
+                .description("Login attempts by outcome")
+                .tag("result", "failure")
+                .tag("reason", event.getException().getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.miniproject.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Times each call to a controller or service method as {@value #METRIC}, tagged with the class,
+ * the method and the exception it ended with ("none" on success). The timer count doubles as the
+ * call counter; percentiles and histogram buckets come from management.metrics.distribution.*.
+ */
+public class MethodTimingInterceptor implements MethodInterceptor {
+
+    public static final String METRIC = "app.method";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MethodTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Class<?> targetClass = invocation.getThis() != null
+                    ? AopUtils.getTargetClass(invocation.getThis())
+                    : invocation.getMethod().getDeclaringClass();
+            sample.stop(Timer.builder(METRIC)
+                    .description("Controller and service method execution time")
+                    .tag("class", targetClass.getSimpleName())
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+}
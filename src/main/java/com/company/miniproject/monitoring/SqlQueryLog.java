@@ -0,0 +1,97 @@
+package com.company.miniproject.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Logs JDBC statements by exception instead of one by one: every statement at or above the slow
+ * threshold goes to {@value #SLOW_LOGGER} at WARN, and a random sample of the rest to
+ * {@value #SAMPLE_LOGGER} at INFO. A line carries the duration, the controller method (or request
+ * line) that ran the statement, the bind count and the SQL as sent, unformatted. Statements that
+ * are neither slow nor sampled cost one comparison and one random draw.
+ */
+public class SqlQueryLog implements QueryExecutionListener {
+
+    public static final String SLOW_LOGGER = "sql.slow";
+    public static final String SAMPLE_LOGGER = "sql.sample";
+
+    private static final Logger SLOW = LoggerFactory.getLogger(SLOW_LOGGER);
+    private static final Logger SAMPLE = LoggerFactory.getLogger(SAMPLE_LOGGER);
+
+    private final long slowThresholdMillis;
+    private final double sampleRate;
+
+    public SqlQueryLog(Duration slowThreshold, double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("SQL sample rate must be between 0 and 1: " + sampleRate);
+        }
+        this.slowThresholdMillis = slowThreshold.toMillis();
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed >= slowThresholdMillis) {
+            if (SLOW.isWarnEnabled()) {
+                SLOW.warn("{} ms caller={} binds={} batch={} success={} sql={}",
+                        elapsed, caller(), bindCount(queryInfoList), execInfo.getBatchSize(),
+                        execInfo.isSuccess(), sql(queryInfoList));
+            }
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && SAMPLE.isInfoEnabled()) {
+            SAMPLE.info("{} ms caller={} binds={} batch={} sql={}",
+                    elapsed, caller(), bindCount(queryInfoList), execInfo.getBatchSize(), sql(queryInfoList));
+        }
+    }
+
+    private static int bindCount(List<QueryInfo> queryInfoList) {
+        int binds = 0;
+        for (QueryInfo queryInfo : queryInfoList) {
+            for (List<?> parameters : queryInfo.getParametersList()) {
+                binds += parameters.size();
+            }
+        }
+        return binds;
+    }
+
+    private static String sql(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.size() == 1) {
+            return queryInfoList.get(0).getQuery();
+        }
+        StringBuilder sql = new StringBuilder();
+        for (QueryInfo queryInfo : queryInfoList) {
+            sql.append(sql.isEmpty() ? "" : "; ").append(queryInfo.getQuery());
+        }
+        return sql.toString();
+    }
+
+    /** The handler method once dispatched, the request line before that (security filters), else "-". */
+    private static String caller() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return "-";
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            return handler.getBeanType().getSimpleName() + "#" + handler.getMethod().getName();
+        }
+        return request.getMethod() + " " + request.getRequestURI();
+    }
+}
@@ -0,0 +1,37 @@
+package com.company.miniproject.monitoring;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #begin()} and
+ * {@link #end()}. Requests run on their own (virtual) thread, so a thread-local is a per-request
+ * counter; statements on other threads, or outside a begin/end pair, are not counted.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new int[1]);
+    }
+
+    /** Stops counting on this thread and returns the number of statements since {@link #begin()}. */
+    public static int end() {
+        int count = current();
+        CURRENT.remove();
+        return count;
+    }
+
+    public static int current() {
+        int[] count = CURRENT.get();
+        return count != null ? count[0] : 0;
+    }
+
+    static void increment() {
+        int[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
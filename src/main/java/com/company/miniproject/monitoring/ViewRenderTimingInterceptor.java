@@ -0,0 +1,55 @@
+package com.company.miniproject.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Times Thymeleaf rendering as {@value #METRIC}, tagged with the template name: from postHandle
+ * (the handler has returned its view) to afterCompletion (the view has been rendered). Redirects,
+ * forwards and responses without a view are not recorded.
+ */
+public class ViewRenderTimingInterceptor implements HandlerInterceptor {
+
+    public static final String METRIC = "thymeleaf.render";
+
+    private static final String SAMPLE_ATTRIBUTE = ViewRenderTimingInterceptor.class.getName() + ".sample";
+    private static final String VIEW_ATTRIBUTE = ViewRenderTimingInterceptor.class.getName() + ".view";
+
+    private final MeterRegistry meterRegistry;
+
+    public ViewRenderTimingInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null || modelAndView.getViewName() == null) {
+            return;
+        }
+        String viewName = modelAndView.getViewName();
+        if (viewName.startsWith("redirect:") || viewName.startsWith("forward:")) {
+            return;
+        }
+        request.setAttribute(VIEW_ATTRIBUTE, viewName);
+        request.setAttribute(SAMPLE_ATTRIBUTE, Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(SAMPLE_ATTRIBUTE) instanceof Timer.Sample sample)) {
+            return;
+        }
+        request.removeAttribute(SAMPLE_ATTRIBUTE);
+        sample.stop(Timer.builder(METRIC)
+                .description("Thymeleaf template rendering time")
+                .tag("view", (String) request.getAttribute(VIEW_ATTRIBUTE))
+                .tag("exception", ex != null ? ex.getClass().getSimpleName() : "none")
+                .register(meterRegistry));
+    }
+}
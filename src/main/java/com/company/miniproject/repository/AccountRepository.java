@@ -4,31 +4,51 @@ import com.company.miniproject.entity.Account;
 import com.company.miniproject.entity.AccountStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AccountRepository extends JpaRepository<Account, Integer> {
+public interface AccountRepository extends JpaRepository<Account, Integer>, JpaSpecificationExecutor<Account> {
+    
+    // Account.employee is the inverse side of a one-to-one and always loaded; join it instead of one select
+    // per row. LOAD keeps the roles eager (batch-loaded) instead of turning them lazy as a fetch graph would.
+    @Override
+    @EntityGraph(attributePaths = "employee", type = EntityGraph.EntityGraphType.LOAD)
+    Page<Account> findAll(Pageable pageable);
     
     @Query("SELECT a FROM Account a LEFT JOIN FETCH a.roles WHERE a.username = :username")
     Optional<Account> findByUsername(@Param("username") String username);
     
+    @Query("SELECT a FROM Account a LEFT JOIN FETCH a.roles LEFT JOIN FETCH a.employee WHERE a.username = :username")
+    Optional<Account> findByUsernameWithEmployee(@Param("username") String username);
+    
+    @Modifying
+    @Query("UPDATE Account a SET a.password = :password WHERE a.id = :id")
+    int updatePassword(@Param("id") Integer id, @Param("password") String password);
+    
     boolean existsByUsername(String username);
     
-    boolean existsByEmail(String email);
+    @Query("SELECT a.username FROM Account a WHERE a.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
     
-    @Query("SELECT COUNT(a) > 0 FROM Account a WHERE LOWER(a.email) = LOWER(:email)")
-    boolean existsByEmailIgnoreCase(@Param("email") String email);
+    @Query("SELECT a.email FROM Account a WHERE a.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
     
-    @Query("SELECT a FROM Account a WHERE LOWER(a.email) = LOWER(:email)")
-    Optional<Account> findByEmailIgnoreCase(@Param("email") String email);
+    boolean existsByEmail(String email);
     
+    @EntityGraph(attributePaths = "employee", type = EntityGraph.EntityGraphType.LOAD)
     @Query("SELECT DISTINCT a FROM Account a JOIN a.roles r WHERE " +
-           "(:keyword IS NULL OR :keyword = '' OR LOWER(a.username) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(a.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+           "(:keyword IS NULL OR :keyword = '' OR a.id IN " +
+           "(SELECT t.id FROM Account t JOIN t.searchTerms st WHERE st LIKE CONCAT(:keyword, '%'))) AND " +
            "(:roleId IS NULL OR r.id = :roleId) AND " +
            "(:status IS NULL OR a.status = :status)")
     Page<Account> searchAccounts(@Param("keyword") String keyword,
@@ -36,6 +56,9 @@ public interface AccountRepository extends JpaRepository<Account, Integer> {
                                 @Param("status") AccountStatus status,
                                 Pageable pageable);
     
-    @Query("SELECT COUNT(a) FROM Account a JOIN a.roles r WHERE r.name IN ('EMPLOYEE', 'MANAGER') AND a.status = :status")
+    @Query("SELECT a FROM Account a WHERE a.searchTerms IS EMPTY AND a.id > :afterId ORDER BY a.id")
+    List<Account> findWithoutSearchTerms(@Param("afterId") Integer afterId, Pageable pageable);
+    
+    @Query("SELECT COUNT(DISTINCT a) FROM Account a JOIN a.roles r WHERE r.name IN ('EMPLOYEE', 'MANAGER') AND a.status = :status")
     long countEmployeesAndManagersByStatus(@Param("status") AccountStatus status);
 }
@@ -0,0 +1,50 @@
+package com.company.miniproject.repository;
+
+import com.company.miniproject.entity.DashboardStat;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DashboardStatRepository extends JpaRepository<DashboardStat, String> {
+    
+    // Without declared spaces Hibernate treats a native write as touching every table and clears the whole second-level cache.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "dashboard_stat"))
+    @Query(value = "INSERT INTO dashboard_stat (stat_key, label, stat_value) VALUES (:statKey, :label, :delta) " +
+                   "ON DUPLICATE KEY UPDATE stat_value = stat_value + :delta, label = COALESCE(:label, label)",
+           nativeQuery = true)
+    void increment(@Param("statKey") String statKey, @Param("label") String label, @Param("delta") long delta);
+    
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "dashboard_stat"))
+    @Query(value = "INSERT INTO dashboard_stat (stat_key, label, stat_value) VALUES (:statKey, :label, :value) " +
+                   "ON DUPLICATE KEY UPDATE stat_value = :value, label = :label",
+           nativeQuery = true)
+    void put(@Param("statKey") String statKey, @Param("label") String label, @Param("value") long value);
+    
+    // Locks every row and, under REPEATABLE READ, the gaps between them, so no increment can run until the caller commits.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "dashboard_stat"))
+    @Query(value = "SELECT stat_key FROM dashboard_stat ORDER BY stat_key FOR UPDATE", nativeQuery = true)
+    List<String> lockAll();
+    
+    @Modifying
+    @Query("DELETE FROM DashboardStat s WHERE s.statKey NOT IN :keys")
+    int deleteByStatKeyNotIn(@Param("keys") Collection<String> keys);
+    
+    @Modifying
+    @Query("UPDATE DashboardStat s SET s.label = :label WHERE s.statKey LIKE CONCAT(:prefix, '%')")
+    int updateLabelByKeyPrefix(@Param("prefix") String prefix, @Param("label") String label);
+    
+    @Modifying
+    @Query("DELETE FROM DashboardStat s WHERE s.statKey LIKE CONCAT(:prefix, '%')")
+    int deleteByKeyPrefix(@Param("prefix") String prefix);
+}
@@ -1,8 +1,16 @@
 package com.company.miniproject.repository;
 
+import com.company.miniproject.dto.DepartmentSummary;
 import com.company.miniproject.entity.Department;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +20,20 @@ import java.util.Optional;
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Integer> {
     
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-data-queries")
+    })
+    List<Department> findAll();
+    
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-data-queries")
+    })
+    List<Department> findAll(Sort sort);
+    
     Optional<Department> findByName(String name);
     
     boolean existsByName(String name);
@@ -19,9 +41,13 @@ public interface DepartmentRepository extends JpaRepository<Department, Integer>
     @Query("SELECT COUNT(e) FROM Employee e WHERE e.department.id = :departmentId")
     long countEmployeesByDepartmentId(@Param("departmentId") Integer departmentId);
     
-    @Query("SELECT DISTINCT d FROM Department d LEFT JOIN FETCH d.employees")
-    List<Department> findAllWithEmployees();
+    @Query(value = "SELECT new com.company.miniproject.dto.DepartmentSummary(d.id, d.name, d.description, COUNT(e)) " +
+           "FROM Department d LEFT JOIN d.employees e " +
+           "GROUP BY d.id, d.name, d.description",
+           countQuery = "SELECT COUNT(d) FROM Department d")
+    Page<DepartmentSummary> findSummaries(Pageable pageable);
     
-    @Query("SELECT d FROM Department d LEFT JOIN FETCH d.employees WHERE d.id = :id")
+    @EntityGraph(attributePaths = {"employees", "employees.account"})
+    @Query("SELECT d FROM Department d WHERE d.id = :id")
     Optional<Department> findByIdWithEmployees(@Param("id") Integer id);
 }
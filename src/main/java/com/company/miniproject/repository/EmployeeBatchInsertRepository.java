@@ -0,0 +1,130 @@
+package com.company.miniproject.repository;
+
+import com.company.miniproject.entity.Account;
+import com.company.miniproject.entity.Employee;
+import com.company.miniproject.entity.Role;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multi-row JDBC inserts for new accounts and employees. The entities keep their IDENTITY ids:
+ * with {@code rewriteBatchedStatements=true} each batch is sent as one multi-row INSERT and the
+ * driver returns every generated id, which Hibernate cannot do for IDENTITY entities.
+ * Callers must run inside a transaction and pass unsaved entities; ids are assigned in place.
+ */
+@Repository
+public class EmployeeBatchInsertRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeBatchInsertRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertAll(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+
+        List<Account> accounts = employees.stream().map(Employee::getAccount).toList();
+        List<Integer> accountIds = insertReturningIds(
+                "INSERT INTO account (username, password, email, status, version) VALUES (?, ?, ?, ?, 0)",
+                accounts.size(),
+                (ps, i) -> {
+                    Account account = accounts.get(i);
+                    ps.setString(1, account.getUsername());
+                    ps.setString(2, account.getPassword());
+                    ps.setString(3, account.getEmail());
+                    ps.setString(4, account.getStatus().name());
+                });
+        for (int i = 0; i < accounts.size(); i++) {
+            accounts.get(i).setId(accountIds.get(i));
+        }
+
+        List<Object[]> accountRoles = new ArrayList<>();
+        List<Object[]> accountTerms = new ArrayList<>();
+        for (Account account : accounts) {
+            for (Role role : account.getRoles()) {
+                accountRoles.add(new Object[]{account.getId(), role.getId()});
+            }
+            for (String term : account.getSearchTerms()) {
+                accountTerms.add(new Object[]{account.getId(), term});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO account_role (account_id, role_id) VALUES (?, ?)", accountRoles);
+        jdbcTemplate.batchUpdate("INSERT INTO account_search_term (account_id, term) VALUES (?, ?)", accountTerms);
+
+        List<Integer> employeeIds = insertReturningIds(
+                "INSERT INTO employee (full_name, birth_date, gender, phone, address, department_id, account_id, version) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, 0)",
+                employees.size(),
+                (ps, i) -> {
+                    Employee employee = employees.get(i);
+                    ps.setString(1, employee.getFullName());
+                    ps.setDate(2, Date.valueOf(employee.getBirthDate()));
+                    ps.setString(3, employee.getGender().name());
+                    ps.setString(4, employee.getPhone());
+                    ps.setString(5, employee.getAddress());
+                    if (employee.getDepartment() != null) {
+                        ps.setInt(6, employee.getDepartment().getId());
+                    } else {
+                        ps.setNull(6, Types.INTEGER);
+                    }
+                    ps.setInt(7, employee.getAccount().getId());
+                });
+        for (int i = 0; i < employees.size(); i++) {
+            employees.get(i).setId(employeeIds.get(i));
+        }
+
+        List<Object[]> employeeTerms = new ArrayList<>();
+        for (Employee employee : employees) {
+            for (String term : employee.getSearchTerms()) {
+                employeeTerms.add(new Object[]{employee.getId(), term});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO employee_search_term (employee_id, term) VALUES (?, ?)", employeeTerms);
+    }
+
+    private List<Integer> insertReturningIds(String sql, int size, RowBinder binder) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        binder.bind(ps, i);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return size;
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != size) {
+            throw new IllegalStateException("Expected " + size + " generated ids but the driver returned " + keys.size());
+        }
+        return keys.stream()
+                .map(key -> ((Number) key.values().iterator().next()).intValue())
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int index) throws SQLException;
+    }
+}
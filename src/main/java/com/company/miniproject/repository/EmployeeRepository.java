@@ -4,51 +4,89 @@ import com.company.miniproject.entity.Employee;
 import com.company.miniproject.entity.AccountStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
+public interface EmployeeRepository extends JpaRepository<Employee, Integer>, JpaSpecificationExecutor<Employee> {
+    
+    // List and edit views read the account's username/email and the department name.
+    @Override
+    @EntityGraph(attributePaths = {"account", "department"})
+    Page<Employee> findAll(Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"account", "department"})
+    Optional<Employee> findWithAccountAndDepartmentById(Integer id);
     
     @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.department LEFT JOIN FETCH e.account WHERE e.account.id = :accountId")
     Optional<Employee> findByAccountId(@Param("accountId") Integer accountId);
     
+    @EntityGraph(attributePaths = {"account", "department"})
     @Query("SELECT e FROM Employee e WHERE " +
-           "(:keyword IS NULL OR :keyword = '' OR LOWER(e.fullName) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+           "(:keyword IS NULL OR :keyword = '' OR e.id IN " +
+           "(SELECT t.id FROM Employee t JOIN t.searchTerms st WHERE st LIKE CONCAT(:keyword, '%'))) AND " +
            "(:departmentId IS NULL OR e.department.id = :departmentId)")
     Page<Employee> searchEmployees(@Param("keyword") String keyword, 
                                    @Param("departmentId") Integer departmentId, 
                                    Pageable pageable);
     
+    @EntityGraph(attributePaths = {"account", "department"})
+    @Query("SELECT e FROM Employee e WHERE e.id IN :ids AND " +
+           "(:departmentId IS NULL OR e.department.id = :departmentId)")
+    Page<Employee> findByIdInAndDepartmentId(@Param("ids") Collection<Integer> ids,
+                                             @Param("departmentId") Integer departmentId,
+                                             Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"account", "department"})
+    @Query("SELECT e FROM Employee e WHERE e.id IN :ids")
+    List<Employee> findWithAccountAndDepartmentByIdIn(@Param("ids") Collection<Integer> ids);
+    
+    @Query("SELECT DISTINCT e.id FROM Employee e JOIN e.searchTerms st " +
+           "WHERE e.department.id = :departmentId AND st LIKE CONCAT(:keyword, '%')")
+    List<Integer> findIdsMatchingInDepartment(@Param("keyword") String keyword,
+                                              @Param("departmentId") Integer departmentId);
+    
+    @Query("SELECT e.id, e.fullName FROM Employee e")
+    List<Object[]> findAllIdAndFullName();
+    
+    @Query("SELECT e FROM Employee e WHERE e.searchTerms IS EMPTY AND e.id > :afterId ORDER BY e.id")
+    List<Employee> findWithoutSearchTerms(@Param("afterId") Integer afterId, Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"account", "department"})
     @Query("SELECT e FROM Employee e WHERE " +
-           "(:keyword IS NULL OR :keyword = '' OR LOWER(e.fullName) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+           "(:keyword IS NULL OR :keyword = '' OR e.id IN " +
+           "(SELECT t.id FROM Employee t JOIN t.searchTerms st WHERE st LIKE CONCAT(:keyword, '%')))")
     Page<Employee> searchEmployeesByKeyword(@Param("keyword") String keyword, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"account", "department"})
     @Query("SELECT e FROM Employee e WHERE e.department.id = :departmentId")
     Page<Employee> findByDepartmentId(@Param("departmentId") Integer departmentId, Pageable pageable);
     
-    @Query("SELECT DISTINCT e FROM Employee e LEFT JOIN FETCH e.department")
-    java.util.List<Employee> findAllWithDepartment();
-    
     @Query("SELECT COUNT(e) FROM Employee e JOIN e.account a JOIN a.roles r WHERE r.name = 'EMPLOYEE' AND a.status = :status")
     long countEmployeesByRoleAndStatus(@Param("status") com.company.miniproject.entity.AccountStatus status);
     
-    @Query("SELECT e FROM Employee e LEFT JOIN FETCH e.department LEFT JOIN FETCH e.account WHERE e.department IS NULL OR e.department.id != :departmentId")
-    java.util.List<Employee> findEmployeesNotInDepartment(@Param("departmentId") Integer departmentId);
-    
     boolean existsByPhone(String phone);
     
+    @Query("SELECT e.phone FROM Employee e WHERE e.phone IN :phones")
+    List<String> findExistingPhones(@Param("phones") Collection<String> phones);
+    
     @Query("SELECT COUNT(e) FROM Employee e JOIN e.account a WHERE a.status = :status")
     long countByAccountStatus(@Param("status") com.company.miniproject.entity.AccountStatus status);
     
     @Query("SELECT d.name, COUNT(e) FROM Employee e JOIN e.department d GROUP BY d.id, d.name")
     List<Object[]> countEmployeesByDepartment();
     
+    @Query("SELECT d.id, d.name, a.status, COUNT(e) FROM Employee e JOIN e.department d JOIN e.account a GROUP BY d.id, d.name, a.status")
+    List<Object[]> countEmployeesByDepartmentAndStatus();
+    
     @Query("SELECT e.gender, COUNT(e) FROM Employee e GROUP BY e.gender")
     List<Object[]> countEmployeesByGender();
     
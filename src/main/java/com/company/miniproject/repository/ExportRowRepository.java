@@ -0,0 +1,63 @@
+package com.company.miniproject.repository;
+
+import com.company.miniproject.dto.AccountExportRow;
+import com.company.miniproject.dto.EmployeeExportRow;
+import com.company.miniproject.dto.ProjectAssignmentExportRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+/**
+ * Forward-only, read-only streams of export rows as DTO projections. MySQL Connector/J only
+ * streams a result set row by row when the fetch size is {@link Integer#MIN_VALUE}; any other
+ * value buffers the whole result on the client. Other drivers reject a negative fetch size and
+ * fetch in batches of {@link #FETCH_SIZE} instead. The connection cannot run other statements
+ * until the stream is closed.
+ */
+@Repository
+public class ExportRowRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    public ExportRowRepository(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        boolean mysql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+        this.fetchSize = mysql ? Integer.MIN_VALUE : FETCH_SIZE;
+    }
+
+    public Stream<EmployeeExportRow> streamEmployees() {
+        return stream("SELECT new com.company.miniproject.dto.EmployeeExportRow(e.id, e.fullName, e.birthDate, " +
+                "e.gender, e.phone, e.address, d.name, a.username, a.email, a.status) " +
+                "FROM Employee e JOIN e.account a LEFT JOIN e.department d ORDER BY e.id", EmployeeExportRow.class);
+    }
+
+    public Stream<AccountExportRow> streamAccounts() {
+        return stream("SELECT new com.company.miniproject.dto.AccountExportRow(a.id, a.username, a.email, a.status, " +
+                "listagg(r.name, ',') WITHIN GROUP (ORDER BY r.name)) " +
+                "FROM Account a LEFT JOIN a.roles r GROUP BY a.id, a.username, a.email, a.status ORDER BY a.id",
+                AccountExportRow.class);
+    }
+
+    public Stream<ProjectAssignmentExportRow> streamProjectAssignments() {
+        return stream("SELECT new com.company.miniproject.dto.ProjectAssignmentExportRow(pa.id, p.name, p.status, " +
+                "e.fullName, d.name, pa.roleInProject, pa.joinDate) " +
+                "FROM ProjectAssignment pa JOIN pa.project p JOIN pa.employee e LEFT JOIN e.department d " +
+                "ORDER BY p.id, pa.id", ProjectAssignmentExportRow.class);
+    }
+
+    private <T> Stream<T> stream(String jpql, Class<T> rowType) {
+        return entityManager.createQuery(jpql, rowType)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -0,0 +1,49 @@
+package com.company.miniproject.repository.specification;
+
+import com.company.miniproject.entity.Account;
+import com.company.miniproject.entity.AccountStatus;
+import com.company.miniproject.entity.Role;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class AccountSpecifications {
+
+    private AccountSpecifications() {
+    }
+
+    public static Specification<Account> matchesSearchKey(String searchKey) {
+        return (root, query, cb) -> {
+            Subquery<Integer> matching = query.subquery(Integer.class);
+            Root<Account> termOwner = matching.from(Account.class);
+            Join<Account, String> term = termOwner.join("searchTerms");
+            matching.select(termOwner.get("id")).where(cb.like(term, searchKey + "%"));
+            return root.get("id").in(matching);
+        };
+    }
+
+    public static Specification<Account> hasRole(Integer roleId) {
+        return (root, query, cb) -> {
+            Subquery<Integer> withRole = query.subquery(Integer.class);
+            Root<Account> roleOwner = withRole.from(Account.class);
+            Join<Account, Role> role = roleOwner.join("roles");
+            withRole.select(roleOwner.get("id")).where(cb.equal(role.get("id"), roleId));
+            return root.get("id").in(withRole);
+        };
+    }
+
+    public static Specification<Account> hasStatus(AccountStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Account> fetchEmployee() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("employee", JoinType.LEFT);
+            }
+            return cb.conjunction();
+        };
+    }
+}
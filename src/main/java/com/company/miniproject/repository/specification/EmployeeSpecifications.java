@@ -0,0 +1,60 @@
+package com.company.miniproject.repository.specification;
+
+import com.company.miniproject.entity.Employee;
+import com.company.miniproject.entity.ProjectAssignment;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {
+    }
+
+    public static Specification<Employee> idIn(Collection<Integer> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Employee> matchesSearchKey(String searchKey) {
+        return (root, query, cb) -> {
+            Subquery<Integer> matching = query.subquery(Integer.class);
+            Root<Employee> termOwner = matching.from(Employee.class);
+            Join<Employee, String> term = termOwner.join("searchTerms");
+            matching.select(termOwner.get("id")).where(cb.like(term, searchKey + "%"));
+            return root.get("id").in(matching);
+        };
+    }
+
+    public static Specification<Employee> inDepartment(Integer departmentId) {
+        return (root, query, cb) -> cb.equal(root.get("department").get("id"), departmentId);
+    }
+
+    public static Specification<Employee> notInDepartment(Integer departmentId) {
+        return (root, query, cb) -> cb.or(
+                cb.isNull(root.get("department")),
+                cb.notEqual(root.get("department").get("id"), departmentId));
+    }
+
+    public static Specification<Employee> notAssignedToProject(Integer projectId) {
+        return (root, query, cb) -> {
+            Subquery<Integer> assigned = query.subquery(Integer.class);
+            Root<ProjectAssignment> assignment = assigned.from(ProjectAssignment.class);
+            assigned.select(assignment.get("employee").get("id"))
+                    .where(cb.equal(assignment.get("project").get("id"), projectId));
+            return cb.not(root.get("id").in(assigned));
+        };
+    }
+
+    public static Specification<Employee> fetchDepartment() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("department", JoinType.LEFT);
+            }
+            return cb.conjunction();
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.company.miniproject.repository.specification;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class KeysetSpecifications {
+
+    private KeysetSpecifications() {
+    }
+
+    public static <T> Specification<T> unrestricted() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(String sortField, Sort.Direction direction,
+                                             Comparable sortValue, Integer lastId) {
+        return (root, query, cb) -> {
+            Path<Comparable> sortPath = path(root, sortField);
+            Path<Integer> idPath = root.get("id");
+            if (direction.isAscending()) {
+                return cb.or(
+                        cb.greaterThan(sortPath, sortValue),
+                        cb.and(cb.equal(sortPath, sortValue), cb.greaterThan(idPath, lastId)));
+            }
+            return cb.or(
+                    cb.lessThan(sortPath, sortValue),
+                    cb.and(cb.equal(sortPath, sortValue), cb.lessThan(idPath, lastId)));
+        };
+    }
+
+    private static <Y> Path<Y> path(Root<?> root, String propertyPath) {
+        Path<?> path = root;
+        for (String segment : propertyPath.split("\\.")) {
+            path = path.get(segment);
+        }
+        @SuppressWarnings("unchecked")
+        Path<Y> typed = (Path<Y>) path;
+        return typed;
+    }
+}
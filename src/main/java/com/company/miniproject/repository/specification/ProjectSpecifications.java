@@ -0,0 +1,23 @@
+package com.company.miniproject.repository.specification;
+
+import com.company.miniproject.entity.Project;
+import com.company.miniproject.entity.ProjectAssignment;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {
+    }
+
+    public static Specification<Project> assignedTo(Integer employeeId) {
+        return (root, query, cb) -> {
+            Subquery<Integer> assigned = query.subquery(Integer.class);
+            Root<ProjectAssignment> assignment = assigned.from(ProjectAssignment.class);
+            assigned.select(assignment.get("project").get("id"))
+                    .where(cb.equal(assignment.get("employee").get("id"), employeeId));
+            return root.get("id").in(assigned);
+        };
+    }
+}
@@ -0,0 +1,216 @@
+package com.company.miniproject.search;
+
+import com.company.miniproject.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over accent-folded employee full names, answering the same question as
+ * {@code LOWER(full_name) LIKE '%keyword%'} without scanning the employee table. Keywords shorter
+ * than one trigram are not answered here ({@link #canSearch}); callers use the SQL search for them.
+ * The index is local to this node and is updated only after the writing transaction commits.
+ */
+@Component
+public class EmployeeNameIndex {
+
+    private static final int GRAM = 3;
+
+    /** Shorter keywords have no trigram to narrow the candidates with and are left to the SQL search. */
+    public static final int MIN_KEYWORD_LENGTH = GRAM;
+
+    private final Map<Integer, String> names = new HashMap<>();
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> rows = employeeRepository.findAllIdAndFullName();
+        lock.writeLock().lock();
+        try {
+            names.clear();
+            postings.clear();
+            for (Object[] row : rows) {
+                add((Integer) row[0], (String) row[1]);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean canSearch(String keyword) {
+        return ready && normalize(keyword).length() >= MIN_KEYWORD_LENGTH;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Integer> search(String keyword) {
+        String needle = normalize(keyword);
+        if (needle.length() < MIN_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("Keyword too short for the name index: " + keyword);
+        }
+        lock.readLock().lock();
+        try {
+            Collection<Integer> candidates = intersectPostings(needle);
+            List<Integer> matches = new ArrayList<>();
+            for (Integer id : candidates) {
+                String name = names.get(id);
+                if (name != null && name.contains(needle)) {
+                    matches.add(id);
+                }
+            }
+            Collections.sort(matches);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The ids in folded-name order, then by id: {@code ORDER BY full_name, id} under an accent- and
+     * case-insensitive collation. Ids no longer indexed are dropped.
+     */
+    public List<Integer> inNameOrder(Collection<Integer> ids) {
+        lock.readLock().lock();
+        try {
+            return ids.stream()
+                    .filter(names::containsKey)
+                    .sorted(Comparator.comparing((Integer id) -> names.get(id)).thenComparing(Comparator.naturalOrder()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void putAfterCommit(Integer id, String fullName) {
+        afterCommit(() -> put(id, fullName));
+    }
+
+    public void putAllAfterCommit(Map<Integer, String> fullNamesById) {
+        afterCommit(() -> putAll(fullNamesById));
+    }
+
+    public void removeAfterCommit(Integer id) {
+        afterCommit(() -> remove(id));
+    }
+
+    public void put(Integer id, String fullName) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            add(id, fullName);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putAll(Map<Integer, String> fullNamesById) {
+        lock.writeLock().lock();
+        try {
+            fullNamesById.forEach((id, fullName) -> {
+                removeInternal(id);
+                add(id, fullName);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Integer id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Collection<Integer> intersectPostings(String needle) {
+        List<Set<Integer>> lists = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            Set<Integer> ids = postings.get(gram);
+            if (ids == null) {
+                return Collections.emptyList();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Integer> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void add(Integer id, String fullName) {
+        if (id == null || fullName == null) {
+            return;
+        }
+        String name = normalize(fullName);
+        names.put(id, name);
+        for (String gram : grams(name)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeInternal(Integer id) {
+        String previous = names.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            Set<Integer> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return SearchText.fold(text);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
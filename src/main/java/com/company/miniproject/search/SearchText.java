@@ -0,0 +1,53 @@
+package com.company.miniproject.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Accent folding shared by the search columns and the in-memory name index, so that
+ * "nguyen" matches "Nguyễn" regardless of database collation.
+ */
+public final class SearchText {
+
+    public static final int MAX_TERM_LENGTH = 255;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private SearchText() {
+    }
+
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD);
+        folded = COMBINING_MARKS.matcher(folded).replaceAll("");
+        folded = folded.replace('\u0111', 'd').replace('\u0110', 'D');
+        folded = folded.toLowerCase(Locale.ROOT);
+        return SEPARATORS.matcher(folded).replaceAll(" ").trim();
+    }
+
+    /**
+     * Every suffix of the folded values that starts at a letter or digit, cut to the column length.
+     * {@code term LIKE 'keyword%'} over these rows holds exactly when the folded value contains the
+     * folded keyword, the same test {@link EmployeeNameIndex} applies.
+     */
+    public static Set<String> suffixes(String... values) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String value : values) {
+            String folded = fold(value);
+            for (int start = 0; start < folded.length(); start++) {
+                if (folded.charAt(start) == ' ') {
+                    continue;
+                }
+                int end = Math.min(folded.length(), start + MAX_TERM_LENGTH);
+                terms.add(folded.substring(start, end));
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,158 @@
+package com.company.miniproject.security;
+
+import com.company.miniproject.entity.Account;
+import com.company.miniproject.entity.AccountStatus;
+import com.company.miniproject.entity.Employee;
+import com.company.miniproject.entity.Role;
+import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Authenticated account resolved once at login and kept in the security context,
+ * so controllers and services can read the account, employee and department ids
+ * without looking the user up again on every request.
+ */
+@Getter
+public class AccountPrincipal implements UserDetails, CredentialsContainer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Integer accountId;
+    
+    private final Integer employeeId;
+    
+    private final Integer departmentId;
+    
+    private final String username;
+    
+    private String password;
+    
+    private final EnumSet<RoleName> roles;
+    
+    private final Collection<GrantedAuthority> authorities;
+    
+    private final boolean blocked;
+
+    public AccountPrincipal(Integer accountId, Integer employeeId, Integer departmentId,
+                            String username, String password, Set<RoleName> roles, boolean blocked) {
+        this.accountId = accountId;
+        this.employeeId = employeeId;
+        this.departmentId = departmentId;
+        this.username = username;
+        this.password = password;
+        this.roles = EnumSet.noneOf(RoleName.class);
+        this.roles.addAll(roles);
+        this.authorities = this.roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.authority()))
+                .collect(Collectors.toUnmodifiableList());
+        this.blocked = blocked;
+    }
+
+    public static AccountPrincipal of(Account account) {
+        Employee employee = account.getEmployee();
+        Integer departmentId = employee != null && employee.getDepartment() != null
+                ? employee.getDepartment().getId() : null;
+        Set<RoleName> roleNames = account.getRoles().stream()
+                .map(Role::getName)
+                .flatMap(name -> RoleName.fromName(name).stream())
+                .collect(Collectors.toSet());
+        
+        return new AccountPrincipal(
+                account.getId(),
+                employee != null ? employee.getId() : null,
+                departmentId,
+                account.getUsername(),
+                account.getPassword(),
+                roleNames,
+                account.getStatus() == AccountStatus.Blocked);
+    }
+
+    public AccountPrincipal copy() {
+        return withPassword(password);
+    }
+
+    public AccountPrincipal withPassword(String newPassword) {
+        return new AccountPrincipal(accountId, employeeId, departmentId, username, newPassword, roles, blocked);
+    }
+
+    public Set<RoleName> getRoles() {
+        return Collections.unmodifiableSet(roles);
+    }
+
+    public boolean hasRole(RoleName roleName) {
+        return roles.contains(roleName);
+    }
+
+    public boolean isAdmin() {
+        return roles.contains(RoleName.ADMIN);
+    }
+
+    public boolean isManager() {
+        return roles.contains(RoleName.MANAGER);
+    }
+
+    public boolean isEmployee() {
+        return roles.contains(RoleName.EMPLOYEE);
+    }
+
+    public boolean isAdminOrManager() {
+        return isAdmin() || isManager();
+    }
+
+    public boolean isEmployeeOnly() {
+        return isEmployee() && !isAdminOrManager();
+    }
+
+    public boolean hasEmployee() {
+        return employeeId != null;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return !blocked;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !blocked;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof AccountPrincipal that && username.equals(that.username);
+    }
+
+    @Override
+    public int hashCode() {
+        return username.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "AccountPrincipal[accountId=" + accountId + ", username=" + username + ", roles=" + roles + "]";
+    }
+}
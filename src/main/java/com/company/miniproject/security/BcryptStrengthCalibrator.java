@@ -0,0 +1,47 @@
+package com.company.miniproject.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the highest BCrypt cost whose verification stays within a target time on this machine.
+ * Each cost step doubles the work, so the search stops at the first cost over the target.
+ */
+public final class BcryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Sample-123";
+    private static final int SAMPLES = 3;
+
+    private BcryptStrengthCalibrator() {
+    }
+
+    /**
+     * Returns a cost in {@code [minStrength, maxStrength]}; {@code minStrength} is kept as a
+     * floor even when it is already slower than {@code target}.
+     */
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        new BCryptPasswordEncoder(4).matches(SAMPLE_PASSWORD, new BCryptPasswordEncoder(4).encode(SAMPLE_PASSWORD));
+        
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            if (verifyNanos(strength) > target.toNanos()) {
+                break;
+            }
+            chosen = strength;
+        }
+        return chosen;
+    }
+
+    private static long verifyNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        String hash = encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, hash);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -1,11 +1,11 @@
 package com.company.miniproject.security;
 
-import com.company.miniproject.entity.Account;
-import com.company.miniproject.entity.AccountStatus;
-import com.company.miniproject.repository.AccountRepository;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 import org.springframework.stereotype.Component;
@@ -15,11 +15,8 @@ import java.io.IOException;
 @Component
 public class CustomAuthenticationFailureHandler extends SimpleUrlAuthenticationFailureHandler {
 
-    private final AccountRepository accountRepository;
-
-    public CustomAuthenticationFailureHandler(AccountRepository accountRepository) {
+    public CustomAuthenticationFailureHandler() {
         super("/login?error=true");
-        this.accountRepository = accountRepository;
     }
 
     @Override
@@ -30,18 +27,23 @@ public class CustomAuthenticationFailureHandler extends SimpleUrlAuthenticationF
         
         if (username != null && !username.isEmpty()) {
             request.getSession().setAttribute("SPRING_SECURITY_LAST_USERNAME", username);
-            
-            Account account = accountRepository.findByUsername(username).orElse(null);
-            if (account != null && account.getStatus() == AccountStatus.Blocked) {
-                request.getSession().setAttribute("loginErrorKey", "error.auth.account_blocked");
-            } else {
-                request.getSession().setAttribute("loginErrorKey", "error.auth.invalid_credentials");
-            }
+        }
+        
+        // The account status was already checked against the loaded AccountPrincipal
+        // (isAccountNonLocked/isEnabled), so the exception type is enough to tell them apart.
+        if (isBlocked(exception)) {
+            request.getSession().setAttribute("loginErrorKey", "error.auth.account_blocked");
+        } else if (exception instanceof AuthenticationServiceException) {
+            // Password hashing busy or the user store unreachable: the credentials were never judged.
+            request.getSession().setAttribute("loginErrorKey", "error.auth.unavailable");
         } else {
             request.getSession().setAttribute("loginErrorKey", "error.auth.invalid_credentials");
         }
         
         super.onAuthenticationFailure(request, response, exception);
     }
+    
+    private boolean isBlocked(AuthenticationException exception) {
+        return exception instanceof LockedException || exception instanceof DisabledException;
+    }
 }
-
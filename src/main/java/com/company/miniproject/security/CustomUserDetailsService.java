@@ -1,47 +1,47 @@
 package com.company.miniproject.security;
 
 import com.company.miniproject.entity.Account;
-import com.company.miniproject.entity.AccountStatus;
 import com.company.miniproject.repository.AccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collection;
-import java.util.stream.Collectors;
-
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private AccountRepository accountRepository;
+    
+    @Autowired
+    private UserDetailsCache userDetailsCache;
 
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Account account = accountRepository.findByUsername(username)
+        // Hand out a copy: the authentication manager erases credentials on the returned instance.
+        return userDetailsCache.get(username, this::loadPrincipal).copy();
+    }
+    
+    /**
+     * Called by the authentication provider after a successful login whose stored hash is
+     * below the current encoding (legacy unprefixed hash or a lower BCrypt cost).
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        AccountPrincipal principal = (AccountPrincipal) user;
+        accountRepository.updatePassword(principal.getAccountId(), newPassword);
+        userDetailsCache.evictAfterCommit(principal.getUsername());
+        return principal.withPassword(newPassword);
+    }
+    
+    private AccountPrincipal loadPrincipal(String username) {
+        Account account = accountRepository.findByUsernameWithEmployee(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
-        Collection<GrantedAuthority> authorities = account.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getName()))
-                .collect(Collectors.toList());
-
-        boolean isBlocked = account.getStatus() == AccountStatus.Blocked;
-        
-        return User.builder()
-                .username(account.getUsername())
-                .password(account.getPassword())
-                .authorities(authorities)
-                .accountExpired(false)
-                .accountLocked(isBlocked)
-                .credentialsExpired(false)
-                .disabled(isBlocked)
-                .build();
+        return AccountPrincipal.of(account);
     }
 }
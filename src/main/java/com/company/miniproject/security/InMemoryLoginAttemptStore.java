@@ -0,0 +1,36 @@
+package com.company.miniproject.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Node-local {@link LoginAttemptStore}. Idle keys expire and the key count is bounded,
+ * so spraying random usernames or addresses cannot grow memory without limit.
+ */
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    private final Cache<String, SlidingWindowCounter> counters;
+    private final Clock clock;
+
+    public InMemoryLoginAttemptStore(long maxKeys, Duration idleExpiry) {
+        this(maxKeys, idleExpiry, Clock.systemUTC());
+    }
+
+    InMemoryLoginAttemptStore(long maxKeys, Duration idleExpiry, Clock clock) {
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .build();
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int limit, Duration window) {
+        long now = clock.millis();
+        SlidingWindowCounter counter = counters.get(key, ignored -> new SlidingWindowCounter(window.toMillis(), now));
+        return counter.tryAcquire(limit, now);
+    }
+}
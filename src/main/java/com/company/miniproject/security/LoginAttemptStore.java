@@ -0,0 +1,16 @@
+package com.company.miniproject.security;
+
+import java.time.Duration;
+
+/**
+ * Counts login attempts per key over a sliding window. The default implementation is
+ * node-local; a multi-node deployment can register its own bean backed by a shared store.
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * Records an attempt for {@code key} if fewer than {@code limit} attempts fall within
+     * the trailing {@code window}, and returns whether the attempt was recorded.
+     */
+    boolean tryAcquire(String key, int limit, Duration window);
+}
@@ -0,0 +1,55 @@
+package com.company.miniproject.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Rejects over-limit login POSTs before the form-login filter runs, so no account lookup
+ * or password hashing is done for them. Registered in {@code SecurityConfig} only; it is
+ * deliberately not a bean so it is not added to the servlet filter chain twice.
+ * <p>
+ * The per-IP key is {@code getRemoteAddr()}, which is the client address only because
+ * {@code server.forward-headers-strategy=native} lets Tomcat resolve X-Forwarded-For from the
+ * proxies in {@code server.tomcat.remoteip.internal-proxies}. Without it, every user behind a
+ * reverse proxy would share the proxy's bucket.
+ */
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private final LoginRateLimiter loginRateLimiter;
+    private final String loginProcessingUrl;
+
+    public LoginRateLimitFilter(LoginRateLimiter loginRateLimiter, String loginProcessingUrl) {
+        this.loginRateLimiter = loginRateLimiter;
+        this.loginProcessingUrl = loginProcessingUrl;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !loginProcessingUrl.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        LoginRateLimiter.Decision decision =
+                loginRateLimiter.tryAcquire(request.getRemoteAddr(), request.getParameter("username"));
+        
+        if (decision != LoginRateLimiter.Decision.ACCEPTED) {
+            response.setHeader(HttpHeaders.RETRY_AFTER,
+                    String.valueOf(loginRateLimiter.retryAfter(decision).toSeconds()));
+            response.sendRedirect(request.getContextPath() + loginProcessingUrl + "?error=rate_limited");
+            return;
+        }
+        
+        filterChain.doFilter(request, response);
+    }
+}
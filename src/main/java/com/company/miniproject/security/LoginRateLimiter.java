@@ -0,0 +1,82 @@
+package com.company.miniproject.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+@Component
+public class LoginRateLimiter {
+
+    public enum Decision {
+        ACCEPTED,
+        REJECTED_BY_IP,
+        REJECTED_BY_USERNAME
+    }
+
+    private final LoginAttemptStore store;
+    private final boolean enabled;
+    private final int ipMaxAttempts;
+    private final Duration ipWindow;
+    private final int usernameMaxAttempts;
+    private final Duration usernameWindow;
+    
+    private final Counter acceptedCounter;
+    private final Counter rejectedByIpCounter;
+    private final Counter rejectedByUsernameCounter;
+
+    public LoginRateLimiter(ObjectProvider<LoginAttemptStore> storeProvider,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.security.login-rate-limit.enabled:true}") boolean enabled,
+                            @Value("${app.security.login-rate-limit.ip.max-attempts:100}") int ipMaxAttempts,
+                            @Value("${app.security.login-rate-limit.ip.window:PT1M}") Duration ipWindow,
+                            @Value("${app.security.login-rate-limit.username.max-attempts:10}") int usernameMaxAttempts,
+                            @Value("${app.security.login-rate-limit.username.window:PT5M}") Duration usernameWindow,
+                            @Value("${app.security.login-rate-limit.store.max-keys:100000}") long maxKeys) {
+        Duration idleExpiry = ipWindow.compareTo(usernameWindow) > 0 ? ipWindow : usernameWindow;
+        this.store = storeProvider.getIfAvailable(() -> new InMemoryLoginAttemptStore(maxKeys, idleExpiry.multipliedBy(2)));
+        this.enabled = enabled;
+        this.ipMaxAttempts = ipMaxAttempts;
+        this.ipWindow = ipWindow;
+        this.usernameMaxAttempts = usernameMaxAttempts;
+        this.usernameWindow = usernameWindow;
+        
+        this.acceptedCounter = Counter.builder("login.rate_limit.attempts")
+                .tag("outcome", "accepted")
+                .register(meterRegistry);
+        this.rejectedByIpCounter = Counter.builder("login.rate_limit.attempts")
+                .tag("outcome", "rejected_ip")
+                .register(meterRegistry);
+        this.rejectedByUsernameCounter = Counter.builder("login.rate_limit.attempts")
+                .tag("outcome", "rejected_username")
+                .register(meterRegistry);
+    }
+
+    public Decision tryAcquire(String clientIp, String username) {
+        if (!enabled) {
+            return Decision.ACCEPTED;
+        }
+        
+        if (clientIp != null && !store.tryAcquire("ip:" + clientIp, ipMaxAttempts, ipWindow)) {
+            rejectedByIpCounter.increment();
+            return Decision.REJECTED_BY_IP;
+        }
+        
+        if (username != null && !username.isBlank()
+                && !store.tryAcquire("user:" + username.trim().toLowerCase(Locale.ROOT), usernameMaxAttempts, usernameWindow)) {
+            rejectedByUsernameCounter.increment();
+            return Decision.REJECTED_BY_USERNAME;
+        }
+        
+        acceptedCounter.increment();
+        return Decision.ACCEPTED;
+    }
+
+    public Duration retryAfter(Decision decision) {
+        return decision == Decision.REJECTED_BY_USERNAME ? usernameWindow : ipWindow;
+    }
+}
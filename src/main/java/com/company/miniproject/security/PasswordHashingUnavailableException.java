@@ -0,0 +1,15 @@
+package com.company.miniproject.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * The hashing pool could not take or finish a password hash: the queue was full, the caller was
+ * interrupted, or the hash itself failed. Nothing is wrong with the credentials; the request can be
+ * retried once the pool drains.
+ */
+public class PasswordHashingUnavailableException extends AuthenticationServiceException {
+
+    public PasswordHashingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,22 @@
+package com.company.miniproject.security;
+
+import java.util.Optional;
+
+public enum RoleName {
+    ADMIN,
+    MANAGER,
+    EMPLOYEE;
+
+    public String authority() {
+        return "ROLE_" + name();
+    }
+
+    public static Optional<RoleName> fromName(String name) {
+        for (RoleName roleName : values()) {
+            if (roleName.name().equals(name)) {
+                return Optional.of(roleName);
+            }
+        }
+        return Optional.empty();
+    }
+}
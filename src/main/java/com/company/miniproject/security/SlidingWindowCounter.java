@@ -0,0 +1,53 @@
+package com.company.miniproject.security;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sliding-window counter approximated from the current and previous fixed windows, updated
+ * with compare-and-set so concurrent attempts on the same key never block each other.
+ */
+final class SlidingWindowCounter {
+
+    private record Window(long start, int previous, int current) {
+    }
+
+    private final long windowMillis;
+    private final AtomicReference<Window> state;
+
+    SlidingWindowCounter(long windowMillis, long nowMillis) {
+        this.windowMillis = windowMillis;
+        this.state = new AtomicReference<>(new Window(nowMillis, 0, 0));
+    }
+
+    boolean tryAcquire(int limit, long nowMillis) {
+        while (true) {
+            Window window = state.get();
+            Window rolled = roll(window, nowMillis);
+            
+            double previousWeight = 1.0 - (double) (nowMillis - rolled.start()) / windowMillis;
+            double estimated = rolled.previous() * previousWeight + rolled.current();
+            if (estimated + 1 > limit) {
+                if (rolled != window) {
+                    state.compareAndSet(window, rolled);
+                }
+                return false;
+            }
+            
+            Window next = new Window(rolled.start(), rolled.previous(), rolled.current() + 1);
+            if (state.compareAndSet(window, next)) {
+                return true;
+            }
+        }
+    }
+
+    private Window roll(Window window, long nowMillis) {
+        long elapsed = nowMillis - window.start();
+        if (elapsed < windowMillis) {
+            return window;
+        }
+        if (elapsed < 2 * windowMillis) {
+            return new Window(window.start() + windowMillis, window.current(), 0);
+        }
+        return new Window(nowMillis - elapsed % windowMillis, 0, 0);
+    }
+}
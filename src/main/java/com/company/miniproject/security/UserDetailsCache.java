@@ -0,0 +1,75 @@
+package com.company.miniproject.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Size-bounded, TTL-evicting cache of resolved principals keyed by lower-cased username.
+ * Writers that change an account's status, roles, password or employee link must evict it
+ * with {@link #evictAfterCommit(String)} so the next login sees the committed state.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, AccountPrincipal> cache;
+
+    public UserDetailsCache(@Value("${app.security.user-cache.max-size:10000}") long maxSize,
+                            @Value("${app.security.user-cache.ttl:PT5M}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+    }
+
+    public AccountPrincipal get(String username, Function<String, AccountPrincipal> loader) {
+        return cache.get(key(username), ignored -> loader.apply(username));
+    }
+
+    public void evict(String username) {
+        if (username != null) {
+            cache.invalidate(key(username));
+        }
+    }
+
+    /**
+     * Evicts immediately and again once the surrounding transaction commits, so a login
+     * racing with the write cannot leave the pre-commit state cached.
+     */
+    public void evictAfterCommit(String username) {
+        evict(username);
+        if (username != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,9 +2,11 @@ package com.company.miniproject.service;
 
 import com.company.miniproject.dto.AccountDto;
 import com.company.miniproject.dto.ChangePasswordDto;
+import com.company.miniproject.dto.CursorPage;
 import com.company.miniproject.entity.Account;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +19,9 @@ public interface AccountService {
     
     Page<Account> searchAccounts(String keyword, Integer roleId, com.company.miniproject.entity.AccountStatus status, Pageable pageable);
     
+    CursorPage<Account> scrollAccounts(String keyword, Integer roleId, com.company.miniproject.entity.AccountStatus status,
+                                       String sortField, Sort.Direction direction, String after, int size);
+    
     Optional<Account> findById(Integer id);
     
     Account save(AccountDto dto);
@@ -32,5 +37,12 @@ public interface AccountService {
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
+    
+    /**
+     * Fills the search terms of up to {@code batchSize} rows that have none, in id order after
+     * {@code afterId}. Returns the last id looked at, or null once no such rows remain; rows whose
+     * values fold to nothing still have no terms and are passed over.
+     */
+    Integer refreshMissingSearchTerms(Integer afterId, int batchSize);
 }
 
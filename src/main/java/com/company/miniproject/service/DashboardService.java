@@ -1,17 +1,17 @@
 package com.company.miniproject.service;
 
-import org.springframework.security.core.Authentication;
+import com.company.miniproject.security.AccountPrincipal;
 
 import java.util.Map;
 
 public interface DashboardService {
     
-    Map<String, Long> getStatistics(Authentication authentication);
+    Map<String, Long> getStatistics(AccountPrincipal principal);
     
     Map<String, Object> getAdminDashboardData();
     
-    Map<String, Object> getManagerDashboardData(Authentication authentication);
+    Map<String, Object> getManagerDashboardData(AccountPrincipal principal);
     
-    Map<String, Object> getEmployeeDashboardData(Authentication authentication);
+    Map<String, Object> getEmployeeDashboardData(AccountPrincipal principal);
 }
 
@@ -0,0 +1,45 @@
+package com.company.miniproject.service;
+
+import com.company.miniproject.entity.AccountStatus;
+import com.company.miniproject.entity.Gender;
+
+public final class DashboardStatKeys {
+    
+    public static final String ACCOUNTS_TOTAL = "accounts.total";
+    public static final String DEPARTMENTS_TOTAL = "departments.total";
+    public static final String PROJECTS_TOTAL = "projects.total";
+    
+    private static final String DEPARTMENT_PREFIX = "department.";
+    private static final String DEPARTMENT_EMPLOYEES_SUFFIX = ".employees";
+
+    private DashboardStatKeys() {
+    }
+    
+    public static String staffByStatus(AccountStatus status) {
+        return "staff.status." + status.name();
+    }
+    
+    public static String employeesByStatus(AccountStatus status) {
+        return "employees.status." + status.name();
+    }
+    
+    public static String employeesByGender(Gender gender) {
+        return "employees.gender." + gender.name();
+    }
+    
+    public static String departmentPrefix(Integer departmentId) {
+        return DEPARTMENT_PREFIX + departmentId + ".";
+    }
+    
+    public static String departmentEmployees(Integer departmentId) {
+        return DEPARTMENT_PREFIX + departmentId + DEPARTMENT_EMPLOYEES_SUFFIX;
+    }
+    
+    public static String departmentEmployeesByStatus(Integer departmentId, AccountStatus status) {
+        return departmentPrefix(departmentId) + "status." + status.name();
+    }
+    
+    public static boolean isDepartmentEmployees(String statKey) {
+        return statKey.startsWith(DEPARTMENT_PREFIX) && statKey.endsWith(DEPARTMENT_EMPLOYEES_SUFFIX);
+    }
+}
@@ -0,0 +1,32 @@
+package com.company.miniproject.service;
+
+import com.company.miniproject.entity.Account;
+import com.company.miniproject.entity.DashboardStat;
+import com.company.miniproject.entity.Department;
+import com.company.miniproject.entity.Employee;
+
+import java.util.List;
+import java.util.Map;
+
+public interface DashboardStatsService {
+    
+    List<DashboardStat> findAll();
+    
+    Map<String, DashboardStat> contributionOf(Account account, Employee employee);
+    
+    void applyChange(Map<String, DashboardStat> before, Map<String, DashboardStat> after);
+    
+    void onDepartmentCreated(Department department);
+    
+    void onDepartmentRenamed(Department department);
+    
+    void onDepartmentDeleted(Integer departmentId);
+    
+    void onProjectCreated();
+    
+    void onProjectDeleted();
+    
+    boolean isEmpty();
+    
+    void rebuild();
+}
@@ -1,6 +1,9 @@
 package com.company.miniproject.service;
 
+import com.company.miniproject.dto.DepartmentSummary;
 import com.company.miniproject.entity.Department;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,7 +12,7 @@ public interface DepartmentService {
     
     List<Department> findAll();
     
-    List<Department> findAll(String sortBy, boolean ascending);
+    Page<DepartmentSummary> findSummaries(Pageable pageable);
     
     Optional<Department> findById(Integer id);
     
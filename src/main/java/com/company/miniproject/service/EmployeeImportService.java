@@ -0,0 +1,16 @@
+package com.company.miniproject.service;
+
+import com.company.miniproject.dto.EmployeeImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface EmployeeImportService {
+    
+    /**
+     * Imports employees from a CSV stream with the header
+     * {@code fullName,birthDate,gender,phone,address,department,username,email,password}.
+     * Rows are committed in batches; invalid or conflicting rows are reported, not thrown.
+     */
+    EmployeeImportResult importCsv(InputStream csv) throws IOException;
+}
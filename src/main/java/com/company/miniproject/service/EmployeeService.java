@@ -1,11 +1,14 @@
 package com.company.miniproject.service;
 
 import com.company.miniproject.dto.ChangePasswordDto;
+import com.company.miniproject.dto.CursorPage;
 import com.company.miniproject.dto.EmployeeRegistrationDto;
 import com.company.miniproject.entity.Employee;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface EmployeeService {
@@ -14,6 +17,11 @@ public interface EmployeeService {
     
     Page<Employee> searchEmployees(String keyword, Integer departmentId, Pageable pageable);
     
+    CursorPage<Employee> scrollEmployees(String keyword, Integer departmentId, String sortField,
+                                         Sort.Direction direction, String after, int size);
+    
+    List<Employee> lookupEmployees(String keyword, Integer excludeDepartmentId, Integer excludeProjectId, int limit);
+    
     Optional<Employee> findById(Integer id);
     
     Optional<Employee> findByAccountId(Integer accountId);
@@ -31,4 +39,11 @@ public interface EmployeeService {
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
+    
+    /**
+     * Fills the search terms of up to {@code batchSize} rows that have none, in id order after
+     * {@code afterId}. Returns the last id looked at, or null once no such rows remain; rows whose
+     * values fold to nothing still have no terms and are passed over.
+     */
+    Integer refreshMissingSearchTerms(Integer afterId, int batchSize);
 }
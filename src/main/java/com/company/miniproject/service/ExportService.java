@@ -0,0 +1,15 @@
+package com.company.miniproject.service;
+
+import com.company.miniproject.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    
+    void exportEmployees(ExportFormat format, OutputStream out) throws IOException;
+    
+    void exportAccounts(ExportFormat format, OutputStream out) throws IOException;
+    
+    void exportProjectAssignments(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -1,10 +1,12 @@
 package com.company.miniproject.service;
 
+import com.company.miniproject.dto.CursorPage;
 import com.company.miniproject.dto.ProjectAssignmentDto;
 import com.company.miniproject.entity.Project;
 import com.company.miniproject.entity.ProjectAssignment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +17,9 @@ public interface ProjectService {
     
     Page<Project> findByEmployeeId(Integer employeeId, Pageable pageable);
     
+    CursorPage<Project> scrollProjects(Integer employeeId, String sortField, Sort.Direction direction,
+                                       String after, int size);
+    
     Optional<Project> findById(Integer id);
     
     Project save(Project project);
@@ -3,20 +3,33 @@ package com.company.miniproject.service.impl;
 import com.company.miniproject.dto.AccountDto;
 import com.company.miniproject.dto.AdminChangePasswordDto;
 import com.company.miniproject.dto.ChangePasswordDto;
+import com.company.miniproject.dto.CursorPage;
 import com.company.miniproject.entity.Account;
+import com.company.miniproject.entity.DashboardStat;
 import com.company.miniproject.entity.Role;
 import com.company.miniproject.repository.AccountRepository;
 import com.company.miniproject.repository.RoleRepository;
+import com.company.miniproject.repository.specification.AccountSpecifications;
+import com.company.miniproject.repository.specification.KeysetSpecifications;
+import com.company.miniproject.search.EmployeeNameIndex;
+import com.company.miniproject.search.SearchText;
+import com.company.miniproject.security.UserDetailsCache;
 import com.company.miniproject.service.AccountService;
+import com.company.miniproject.service.DashboardStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,6 +45,15 @@ public class AccountServiceImpl implements AccountService {
     
     @Autowired
     private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+    
+    @Autowired
+    private EmployeeNameIndex employeeNameIndex;
+    
+    @Autowired
+    private UserDetailsCache userDetailsCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -48,7 +70,35 @@ public class AccountServiceImpl implements AccountService {
     @Override
     @Transactional(readOnly = true)
     public Page<Account> searchAccounts(String keyword, Integer roleId, com.company.miniproject.entity.AccountStatus status, Pageable pageable) {
-        return accountRepository.searchAccounts(keyword, roleId, status, pageable);
+        String searchKey = SearchText.fold(keyword);
+        if (keyword != null && !keyword.trim().isEmpty() && searchKey.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        return accountRepository.searchAccounts(searchKey, roleId, status, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Account> scrollAccounts(String keyword, Integer roleId, com.company.miniproject.entity.AccountStatus status,
+                                              String sortField, Sort.Direction direction, String after, int size) {
+        Specification<Account> filter = KeysetSpecifications.unrestricted();
+        
+        String searchKey = SearchText.fold(keyword);
+        if (keyword != null && !keyword.trim().isEmpty() && searchKey.isEmpty()) {
+            return new CursorPage<>(List.of(), null, false);
+        }
+        if (!searchKey.isEmpty()) {
+            filter = filter.and(AccountSpecifications.matchesSearchKey(searchKey));
+        }
+        if (roleId != null) {
+            filter = filter.and(AccountSpecifications.hasRole(roleId));
+        }
+        if (status != null) {
+            filter = filter.and(AccountSpecifications.hasStatus(status));
+        }
+        
+        return KeysetQueries.scroll(accountRepository, filter.and(AccountSpecifications.fetchEmployee()),
+                sortField, direction, after, size);
     }
 
     @Override
@@ -66,13 +116,6 @@ public class AccountServiceImpl implements AccountService {
             throw new IllegalArgumentException("Password must be at least 6 characters");
         }
         
-        if (accountRepository.existsByUsername(dto.getUsername())) {
-            throw new IllegalArgumentException("Username already exists. Please choose a different username.");
-        }
-        if (accountRepository.existsByEmail(dto.getEmail())) {
-            throw new IllegalArgumentException("Email already exists. Please use a different email address.");
-        }
-        
         Account account = new Account();
         account.setUsername(dto.getUsername());
         account.setEmail(dto.getEmail());
@@ -87,7 +130,15 @@ public class AccountServiceImpl implements AccountService {
         }
         account.setRoles(roles);
         
-        return accountRepository.save(account);
+        // The unique keys on username and email decide; no lookups beforehand.
+        Account savedAccount;
+        try {
+            savedAccount = accountRepository.saveAndFlush(account);
+        } catch (DataIntegrityViolationException e) {
+            throw WriteConflicts.translate(e);
+        }
+        dashboardStatsService.applyChange(Map.of(), dashboardStatsService.contributionOf(savedAccount, null));
+        return savedAccount;
     }
 
     @Override
@@ -95,26 +146,12 @@ public class AccountServiceImpl implements AccountService {
         Account account = accountRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Account not found with id: " + id));
         
+        WriteConflicts.requireVersion(Account.class, id, dto.getVersion(), account.getVersion());
+        
         boolean isAdminAccount = account.getRoles().stream()
                 .anyMatch(role -> role.getName().equals("ADMIN"));
-        
-        if (dto.getUsername() != null && !dto.getUsername().trim().isEmpty()) {
-            if (!account.getUsername().equals(dto.getUsername()) && accountRepository.existsByUsername(dto.getUsername())) {
-                throw new IllegalArgumentException("Username already exists. Please choose a different username.");
-            }
-        }
-        
-        if (dto.getEmail() != null && !dto.getEmail().trim().isEmpty()) {
-            String normalizedNewEmail = dto.getEmail().trim();
-            String normalizedCurrentEmail = account.getEmail().trim();
-            
-            if (!normalizedCurrentEmail.equalsIgnoreCase(normalizedNewEmail)) {
-                Optional<Account> existingAccount = accountRepository.findByEmailIgnoreCase(normalizedNewEmail);
-                if (existingAccount.isPresent() && !existingAccount.get().getId().equals(id)) {
-                    throw new IllegalArgumentException("Email already exists. This email is already used by another user. Please use a different email address.");
-                }
-            }
-        }
+        Map<String, DashboardStat> statsBefore = dashboardStatsService.contributionOf(account, account.getEmployee());
+        String previousUsername = account.getUsername();
         
         if (isAdminAccount) {
             account.setStatus(dto.getStatus());
@@ -139,7 +176,17 @@ public class AccountServiceImpl implements AccountService {
             account.setRoles(roles);
         }
         
-        return accountRepository.save(account);
+        Account savedAccount;
+        try {
+            savedAccount = accountRepository.saveAndFlush(account);
+        } catch (DataIntegrityViolationException e) {
+            throw WriteConflicts.translate(e);
+        }
+        dashboardStatsService.applyChange(statsBefore,
+                dashboardStatsService.contributionOf(savedAccount, savedAccount.getEmployee()));
+        userDetailsCache.evictAfterCommit(previousUsername);
+        userDetailsCache.evictAfterCommit(savedAccount.getUsername());
+        return savedAccount;
     }
 
     @Override
@@ -153,7 +200,13 @@ public class AccountServiceImpl implements AccountService {
             throw new IllegalStateException("Cannot delete admin accounts. Admin accounts can only be viewed.");
         }
         
-        accountRepository.deleteById(id);
+        Map<String, DashboardStat> statsBefore = dashboardStatsService.contributionOf(account, account.getEmployee());
+        accountRepository.delete(account);
+        dashboardStatsService.applyChange(statsBefore, Map.of());
+        userDetailsCache.evictAfterCommit(account.getUsername());
+        if (account.getEmployee() != null) {
+            employeeNameIndex.removeAfterCommit(account.getEmployee().getId());
+        }
     }
 
     @Override
@@ -175,6 +228,7 @@ public class AccountServiceImpl implements AccountService {
         
         account.setPassword(passwordEncoder.encode(dto.getNewPassword()));
         accountRepository.save(account);
+        userDetailsCache.evictAfterCommit(account.getUsername());
     }
 
     @Override
@@ -194,6 +248,7 @@ public class AccountServiceImpl implements AccountService {
         
         account.setPassword(passwordEncoder.encode(dto.getNewPassword()));
         accountRepository.save(account);
+        userDetailsCache.evictAfterCommit(account.getUsername());
     }
 
     @Override
@@ -205,7 +260,16 @@ public class AccountServiceImpl implements AccountService {
     @Override
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return accountRepository.existsByEmail(email);
+        return accountRepository.existsByEmail(Account.normalizeEmail(email));
+    }
+
+    @Override
+    public Integer refreshMissingSearchTerms(Integer afterId, int batchSize) {
+        List<Account> accounts = accountRepository.findWithoutSearchTerms(afterId, PageRequest.of(0, batchSize));
+        for (Account account : accounts) {
+            account.refreshSearchTerms();
+        }
+        return accounts.isEmpty() ? null : accounts.get(accounts.size() - 1).getId();
     }
 }
 
@@ -2,9 +2,11 @@ package com.company.miniproject.service.impl;
 
 import com.company.miniproject.entity.*;
 import com.company.miniproject.repository.*;
+import com.company.miniproject.security.AccountPrincipal;
 import com.company.miniproject.service.DashboardService;
+import com.company.miniproject.service.DashboardStatKeys;
+import com.company.miniproject.service.DashboardStatsService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,64 +19,44 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DashboardServiceImpl implements DashboardService {
 
-    @Autowired
-    private DepartmentRepository departmentRepository;
-    
     @Autowired
     private EmployeeRepository employeeRepository;
     
     @Autowired
-    private ProjectRepository projectRepository;
+    private DepartmentRepository departmentRepository;
     
     @Autowired
-    private AccountRepository accountRepository;
+    private ProjectAssignmentRepository projectAssignmentRepository;
     
     @Autowired
-    private ProjectAssignmentRepository projectAssignmentRepository;
+    private DashboardStatsService dashboardStatsService;
 
     @Override
-    public Map<String, Long> getStatistics(Authentication authentication) {
+    public Map<String, Long> getStatistics(AccountPrincipal principal) {
         Map<String, Long> stats = new HashMap<>();
         
-        boolean isAdmin = authentication != null && authentication.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
-        boolean isManager = authentication != null && authentication.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_MANAGER"));
+        boolean isAdmin = principal != null && principal.isAdmin();
+        boolean isManager = principal != null && principal.isManager();
         
         if (isAdmin) {
-            stats.put("totalDepartments", departmentRepository.count());
-            stats.put("totalUsers", accountRepository.count());
-            stats.put("totalProjects", projectRepository.count());
+            Map<String, Long> values = loadStatValues();
+            stats.put("totalDepartments", valueOf(values, DashboardStatKeys.DEPARTMENTS_TOTAL));
+            stats.put("totalUsers", valueOf(values, DashboardStatKeys.ACCOUNTS_TOTAL));
+            stats.put("totalProjects", valueOf(values, DashboardStatKeys.PROJECTS_TOTAL));
         }
         
         if (isManager && !isAdmin) {
-            stats.put("totalDepartments", departmentRepository.count());
-            long activeEmployeeCount = employeeRepository.countEmployeesByRoleAndStatus(
-                com.company.miniproject.entity.AccountStatus.Active);
-            stats.put("totalEmployees", activeEmployeeCount);
-            stats.put("totalProjects", projectRepository.count());
+            Map<String, Long> values = loadStatValues();
+            stats.put("totalDepartments", valueOf(values, DashboardStatKeys.DEPARTMENTS_TOTAL));
+            stats.put("totalEmployees", valueOf(values, DashboardStatKeys.employeesByStatus(AccountStatus.Active)));
+            stats.put("totalProjects", valueOf(values, DashboardStatKeys.PROJECTS_TOTAL));
         }
         
-        if (authentication != null && authentication.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals("ROLE_EMPLOYEE"))) {
-            String username = authentication.getName();
-            Optional<com.company.miniproject.entity.Account> accountOpt = 
-                accountRepository.findByUsername(username);
-            
-            if (accountOpt.isPresent()) {
-                Optional<com.company.miniproject.entity.Employee> employeeOpt = 
-                    employeeRepository.findByAccountId(accountOpt.get().getId());
-                
-                if (employeeOpt.isPresent()) {
-                    long myProjectsCount = projectAssignmentRepository
-                        .findByEmployeeId(employeeOpt.get().getId()).size();
-                    stats.put("myProjects", myProjectsCount);
-                } else {
-                    stats.put("myProjects", 0L);
-                }
-            } else {
-                stats.put("myProjects", 0L);
-            }
+        if (principal != null && principal.isEmployee()) {
+            long myProjectsCount = principal.hasEmployee()
+                    ? projectAssignmentRepository.countByEmployeeId(principal.getEmployeeId())
+                    : 0L;
+            stats.put("myProjects", myProjectsCount);
         }
         
         return stats;
@@ -84,27 +66,26 @@ public class DashboardServiceImpl implements DashboardService {
     public Map<String, Object> getAdminDashboardData() {
         Map<String, Object> data = new HashMap<>();
         
-        long activeCount = accountRepository.countEmployeesAndManagersByStatus(AccountStatus.Active);
-        data.put("activeEmployeesAndManagers", activeCount);
+        List<DashboardStat> statRows = dashboardStatsService.findAll();
+        Map<String, Long> values = toValues(statRows);
         
-        long blockedCount = accountRepository.countEmployeesAndManagersByStatus(AccountStatus.Blocked);
-        data.put("blockedEmployeesAndManagers", blockedCount);
+        data.put("activeEmployeesAndManagers", valueOf(values, DashboardStatKeys.staffByStatus(AccountStatus.Active)));
+        data.put("blockedEmployeesAndManagers", valueOf(values, DashboardStatKeys.staffByStatus(AccountStatus.Blocked)));
         
-        List<Object[]> deptCounts = employeeRepository.countEmployeesByDepartment();
         Map<String, Long> employeesByDept = new LinkedHashMap<>();
-        for (Object[] row : deptCounts) {
-            String deptName = (String) row[0];
-            Long count = (Long) row[1];
-            employeesByDept.put(deptName, count);
-        }
+        statRows.stream()
+                .filter(stat -> DashboardStatKeys.isDepartmentEmployees(stat.getStatKey()))
+                .filter(stat -> stat.getStatValue() > 0)
+                .sorted(Comparator.comparing(DashboardStat::getLabel, String.CASE_INSENSITIVE_ORDER))
+                .forEach(stat -> employeesByDept.put(stat.getLabel(), stat.getStatValue()));
         data.put("employeesByDepartment", employeesByDept);
         
-        List<Object[]> genderCounts = employeeRepository.countEmployeesByGender();
         Map<String, Long> genderDistribution = new LinkedHashMap<>();
-        for (Object[] row : genderCounts) {
-            Gender gender = (Gender) row[0];
-            Long count = (Long) row[1];
-            genderDistribution.put(gender.name(), count);
+        for (Gender gender : Gender.values()) {
+            long count = valueOf(values, DashboardStatKeys.employeesByGender(gender));
+            if (count > 0) {
+                genderDistribution.put(gender.name(), count);
+            }
         }
         data.put("genderDistribution", genderDistribution);
         
@@ -112,97 +93,99 @@ public class DashboardServiceImpl implements DashboardService {
     }
     
     @Override
-    public Map<String, Object> getManagerDashboardData(Authentication authentication) {
+    public Map<String, Object> getManagerDashboardData(AccountPrincipal principal) {
         Map<String, Object> data = new HashMap<>();
         
-        if (authentication == null) {
+        if (principal == null || principal.getDepartmentId() == null) {
             return data;
         }
         
-        String username = authentication.getName();
-        Optional<Account> accountOpt = accountRepository.findByUsername(username);
+        Integer deptId = principal.getDepartmentId();
+        List<DashboardStat> statRows = dashboardStatsService.findAll();
+        Map<String, Long> values = toValues(statRows);
         
-        if (accountOpt.isPresent()) {
-            Optional<Employee> managerOpt = employeeRepository.findByAccountId(accountOpt.get().getId());
-            
-            if (managerOpt.isPresent()) {
-                Employee manager = managerOpt.get();
-                Department managerDept = manager.getDepartment();
-                
-                if (managerDept != null) {
-                    Integer deptId = managerDept.getId();
-                    
-                    long deptEmployeeCount = employeeRepository.countByDepartmentId(deptId);
-                    data.put("departmentEmployeeCount", deptEmployeeCount);
-                    
-                    long totalEmployees = employeeRepository.countEmployeesByRoleAndStatus(AccountStatus.Active) +
-                                        employeeRepository.countEmployeesByRoleAndStatus(AccountStatus.Blocked);
-                    data.put("totalEmployees", totalEmployees);
-                    
-                    List<Employee> activeEmployees = employeeRepository.findByDepartmentIdAndAccountStatus(
-                        deptId, AccountStatus.Active);
-                    data.put("activeEmployeesInDept", (long) activeEmployees.size());
-                    
-                    List<Employee> blockedEmployees = employeeRepository.findByDepartmentIdAndAccountStatus(
-                        deptId, AccountStatus.Blocked);
-                    data.put("blockedEmployeesInDept", (long) blockedEmployees.size());
-                    
-                    data.put("departmentName", managerDept.getName());
-                }
-            }
-        }
+        data.put("departmentEmployeeCount", valueOf(values, DashboardStatKeys.departmentEmployees(deptId)));
+        
+        long totalEmployees = valueOf(values, DashboardStatKeys.employeesByStatus(AccountStatus.Active)) +
+                            valueOf(values, DashboardStatKeys.employeesByStatus(AccountStatus.Blocked));
+        data.put("totalEmployees", totalEmployees);
+        
+        data.put("activeEmployeesInDept", valueOf(values,
+            DashboardStatKeys.departmentEmployeesByStatus(deptId, AccountStatus.Active)));
+        data.put("blockedEmployeesInDept", valueOf(values,
+            DashboardStatKeys.departmentEmployeesByStatus(deptId, AccountStatus.Blocked)));
+        
+        String departmentEmployeesKey = DashboardStatKeys.departmentEmployees(deptId);
+        String departmentName = statRows.stream()
+                .filter(stat -> stat.getStatKey().equals(departmentEmployeesKey) && stat.getLabel() != null)
+                .map(DashboardStat::getLabel)
+                .findFirst()
+                .orElseGet(() -> departmentRepository.findById(deptId).map(Department::getName).orElse(null));
+        data.put("departmentName", departmentName);
         
         return data;
     }
     
     @Override
-    public Map<String, Object> getEmployeeDashboardData(Authentication authentication) {
+    public Map<String, Object> getEmployeeDashboardData(AccountPrincipal principal) {
         Map<String, Object> data = new HashMap<>();
         
-        if (authentication == null) {
+        if (principal == null || !principal.hasEmployee()) {
             return data;
         }
         
-        String username = authentication.getName();
-        Optional<Account> accountOpt = accountRepository.findByUsername(username);
+        Optional<Employee> employeeOpt = employeeRepository.findByAccountId(principal.getAccountId());
         
-        if (accountOpt.isPresent()) {
-            Optional<Employee> employeeOpt = employeeRepository.findByAccountId(accountOpt.get().getId());
+        if (employeeOpt.isPresent()) {
+            Employee employee = employeeOpt.get();
             
-            if (employeeOpt.isPresent()) {
-                Employee employee = employeeOpt.get();
-                
-                List<ProjectAssignment> assignments = projectAssignmentRepository.findByEmployeeId(employee.getId());
-                data.put("projectCount", (long) assignments.size());
+            List<ProjectAssignment> assignments = projectAssignmentRepository.findByEmployeeId(employee.getId());
+            data.put("projectCount", (long) assignments.size());
+            
+            Map<String, Long> projectDurations = new LinkedHashMap<>();
+            LocalDate now = LocalDate.now();
+            
+            for (ProjectAssignment assignment : assignments) {
+                Project project = assignment.getProject();
+                String projectName = project.getName();
                 
-                Map<String, Long> projectDurations = new LinkedHashMap<>();
-                LocalDate now = LocalDate.now();
+                LocalDate startDate = assignment.getJoinDate() != null ? 
+                    assignment.getJoinDate() : project.getStartDate();
+                LocalDate endDate = project.getEndDate() != null ? 
+                    project.getEndDate() : now;
                 
-                for (ProjectAssignment assignment : assignments) {
-                    Project project = assignment.getProject();
-                    String projectName = project.getName();
-                    
-                    LocalDate startDate = assignment.getJoinDate() != null ? 
-                        assignment.getJoinDate() : project.getStartDate();
-                    LocalDate endDate = project.getEndDate() != null ? 
-                        project.getEndDate() : now;
-                    
-                    if (startDate != null) {
-                        long days = ChronoUnit.DAYS.between(startDate, endDate);
-                        projectDurations.put(projectName, days);
-                    }
+                if (startDate != null) {
+                    long days = ChronoUnit.DAYS.between(startDate, endDate);
+                    projectDurations.put(projectName, days);
                 }
-                data.put("projectDurations", projectDurations);
-                
-                data.put("employeeName", employee.getFullName());
-                data.put("employeeEmail", employee.getAccount().getEmail());
-                data.put("employeePhone", employee.getPhone());
-                data.put("employeeDepartment", employee.getDepartment() != null ? 
-                    employee.getDepartment().getName() : "N/A");
             }
+            data.put("projectDurations", projectDurations);
+            
+            data.put("employeeName", employee.getFullName());
+            data.put("employeeEmail", employee.getAccount().getEmail());
+            data.put("employeePhone", employee.getPhone());
+            data.put("employeeDepartment", employee.getDepartment() != null ? 
+                employee.getDepartment().getName() : "N/A");
         }
         
         return data;
     }
+    
+    private Map<String, Long> loadStatValues() {
+        return toValues(dashboardStatsService.findAll());
+    }
+    
+    private Map<String, Long> toValues(List<DashboardStat> statRows) {
+        Map<String, Long> values = new HashMap<>();
+        for (DashboardStat stat : statRows) {
+            values.put(stat.getStatKey(), stat.getStatValue());
+        }
+        return values;
+    }
+    
+    private long valueOf(Map<String, Long> values, String key) {
+        Long value = values.get(key);
+        return value != null ? value : 0L;
+    }
 }
 
@@ -0,0 +1,232 @@
+package com.company.miniproject.service.impl;
+
+import com.company.miniproject.entity.*;
+import com.company.miniproject.repository.*;
+import com.company.miniproject.service.DashboardStatKeys;
+import com.company.miniproject.service.DashboardStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Changes are summed per transaction and written just before it commits, one upsert per key in key
+ * order, so a writer holds the dashboard_stat row locks only while it commits and an import batch
+ * touches each row once. {@link #rebuild()} locks every row (and the gaps between them) before it
+ * counts: it waits for writers already writing their changes, and later writers wait for it, so each
+ * change is either in its counts or applied on top of them.
+ */
+@Service
+@Transactional
+public class DashboardStatsServiceImpl implements DashboardStatsService {
+
+    @Autowired
+    private DashboardStatRepository dashboardStatRepository;
+    
+    @Autowired
+    private AccountRepository accountRepository;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DashboardStat> findAll() {
+        return dashboardStatRepository.findAll();
+    }
+
+    @Override
+    public Map<String, DashboardStat> contributionOf(Account account, Employee employee) {
+        Map<String, DashboardStat> contribution = new HashMap<>();
+        if (account == null) {
+            return contribution;
+        }
+        
+        addOne(contribution, DashboardStatKeys.ACCOUNTS_TOTAL, null);
+        
+        Set<String> roleNames = account.getRoles().stream()
+                .map(Role::getName)
+                .collect(Collectors.toSet());
+        AccountStatus status = account.getStatus();
+        
+        if (roleNames.contains("EMPLOYEE") || roleNames.contains("MANAGER")) {
+            addOne(contribution, DashboardStatKeys.staffByStatus(status), null);
+        }
+        
+        if (employee != null) {
+            if (roleNames.contains("EMPLOYEE")) {
+                addOne(contribution, DashboardStatKeys.employeesByStatus(status), null);
+            }
+            addOne(contribution, DashboardStatKeys.employeesByGender(employee.getGender()), null);
+            
+            Department department = employee.getDepartment();
+            if (department != null) {
+                addOne(contribution, DashboardStatKeys.departmentEmployees(department.getId()), department.getName());
+                addOne(contribution, DashboardStatKeys.departmentEmployeesByStatus(department.getId(), status), department.getName());
+            }
+        }
+        
+        return contribution;
+    }
+
+    @Override
+    public void applyChange(Map<String, DashboardStat> before, Map<String, DashboardStat> after) {
+        Set<String> keys = new HashSet<>(before.keySet());
+        keys.addAll(after.keySet());
+        
+        for (String key : keys) {
+            DashboardStat oldStat = before.get(key);
+            DashboardStat newStat = after.get(key);
+            long delta = (newStat != null ? newStat.getStatValue() : 0L) - (oldStat != null ? oldStat.getStatValue() : 0L);
+            if (delta != 0) {
+                String label = newStat != null ? newStat.getLabel() : oldStat.getLabel();
+                pendingChanges().add(key, label, delta);
+            }
+        }
+    }
+
+    @Override
+    public void onDepartmentCreated(Department department) {
+        pendingChanges().add(DashboardStatKeys.DEPARTMENTS_TOTAL, null, 1);
+    }
+
+    @Override
+    public void onDepartmentRenamed(Department department) {
+        String prefix = DashboardStatKeys.departmentPrefix(department.getId());
+        pendingChanges().relabel(prefix, department.getName());
+        dashboardStatRepository.updateLabelByKeyPrefix(prefix, department.getName());
+    }
+
+    @Override
+    public void onDepartmentDeleted(Integer departmentId) {
+        String prefix = DashboardStatKeys.departmentPrefix(departmentId);
+        PendingChanges pending = pendingChanges();
+        pending.discard(prefix);
+        pending.add(DashboardStatKeys.DEPARTMENTS_TOTAL, null, -1);
+        dashboardStatRepository.deleteByKeyPrefix(prefix);
+    }
+
+    @Override
+    public void onProjectCreated() {
+        pendingChanges().add(DashboardStatKeys.PROJECTS_TOTAL, null, 1);
+    }
+
+    @Override
+    public void onProjectDeleted() {
+        pendingChanges().add(DashboardStatKeys.PROJECTS_TOTAL, null, -1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return dashboardStatRepository.count() == 0;
+    }
+
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void rebuild() {
+        // Taken before the first count, so the counts are read after every earlier writer committed.
+        dashboardStatRepository.lockAll();
+        
+        List<DashboardStat> stats = new ArrayList<>();
+        
+        stats.add(new DashboardStat(DashboardStatKeys.ACCOUNTS_TOTAL, null, accountRepository.count()));
+        stats.add(new DashboardStat(DashboardStatKeys.DEPARTMENTS_TOTAL, null, departmentRepository.count()));
+        stats.add(new DashboardStat(DashboardStatKeys.PROJECTS_TOTAL, null, projectRepository.count()));
+        
+        for (AccountStatus status : AccountStatus.values()) {
+            stats.add(new DashboardStat(DashboardStatKeys.staffByStatus(status), null,
+                    accountRepository.countEmployeesAndManagersByStatus(status)));
+            stats.add(new DashboardStat(DashboardStatKeys.employeesByStatus(status), null,
+                    employeeRepository.countEmployeesByRoleAndStatus(status)));
+        }
+        
+        for (Object[] row : employeeRepository.countEmployeesByGender()) {
+            Gender gender = (Gender) row[0];
+            Long count = (Long) row[1];
+            stats.add(new DashboardStat(DashboardStatKeys.employeesByGender(gender), null, count));
+        }
+        
+        Map<String, DashboardStat> departmentTotals = new LinkedHashMap<>();
+        for (Object[] row : employeeRepository.countEmployeesByDepartmentAndStatus()) {
+            Integer departmentId = (Integer) row[0];
+            String departmentName = (String) row[1];
+            AccountStatus status = (AccountStatus) row[2];
+            Long count = (Long) row[3];
+            
+            stats.add(new DashboardStat(DashboardStatKeys.departmentEmployeesByStatus(departmentId, status),
+                    departmentName, count));
+            DashboardStat departmentTotal = departmentTotals.computeIfAbsent(
+                    DashboardStatKeys.departmentEmployees(departmentId),
+                    key -> new DashboardStat(key, departmentName, 0L));
+            departmentTotal.setStatValue(departmentTotal.getStatValue() + count);
+        }
+        stats.addAll(departmentTotals.values());
+        
+        for (DashboardStat stat : stats) {
+            dashboardStatRepository.put(stat.getStatKey(), stat.getLabel(), stat.getStatValue());
+        }
+        dashboardStatRepository.deleteByStatKeyNotIn(stats.stream().map(DashboardStat::getStatKey).toList());
+    }
+    
+    private void addOne(Map<String, DashboardStat> contribution, String key, String label) {
+        contribution.put(key, new DashboardStat(key, label, 1L));
+    }
+    
+    private PendingChanges pendingChanges() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pending) {
+                return pending;
+            }
+        }
+        PendingChanges pending = new PendingChanges();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+    
+    /** The summed changes of one transaction, keyed and therefore written in key order. */
+    private final class PendingChanges implements TransactionSynchronization {
+        
+        private final SortedMap<String, DashboardStat> deltas = new TreeMap<>();
+        
+        void add(String key, String label, long delta) {
+            DashboardStat total = deltas.computeIfAbsent(key, k -> new DashboardStat(k, null, 0L));
+            total.setStatValue(total.getStatValue() + delta);
+            if (label != null) {
+                total.setLabel(label);
+            }
+        }
+        
+        void relabel(String keyPrefix, String label) {
+            deltas.values().stream()
+                    .filter(stat -> stat.getStatKey().startsWith(keyPrefix))
+                    .forEach(stat -> stat.setLabel(label));
+        }
+        
+        void discard(String keyPrefix) {
+            deltas.keySet().removeIf(key -> key.startsWith(keyPrefix));
+        }
+        
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Entity changes first, so the stat rows stay locked only for the commit itself.
+            dashboardStatRepository.flush();
+            for (DashboardStat stat : deltas.values()) {
+                if (stat.getStatValue() != 0) {
+                    dashboardStatRepository.increment(stat.getStatKey(), stat.getLabel(), stat.getStatValue());
+                }
+            }
+        }
+    }
+}
@@ -1,18 +1,24 @@
 package com.company.miniproject.service.impl;
 
+import com.company.miniproject.dto.DepartmentSummary;
+import com.company.miniproject.entity.DashboardStat;
 import com.company.miniproject.entity.Department;
 import com.company.miniproject.entity.Employee;
 import com.company.miniproject.repository.DepartmentRepository;
 import com.company.miniproject.repository.EmployeeRepository;
+import com.company.miniproject.security.UserDetailsCache;
+import com.company.miniproject.service.DashboardStatsService;
 import com.company.miniproject.service.DepartmentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -23,41 +29,23 @@ public class DepartmentServiceImpl implements DepartmentService {
     
     @Autowired
     private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+    
+    @Autowired
+    private UserDetailsCache userDetailsCache;
 
     @Override
     @Transactional(readOnly = true)
     public List<Department> findAll() {
-        return findAll("name", true);
+        return departmentRepository.findAll(Sort.by("name"));
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<Department> findAll(String sortBy, boolean ascending) {
-        List<Department> departments = departmentRepository.findAllWithEmployees();
-        for (Department dept : departments) {
-            if (dept.getEmployees() != null) {
-                dept.getEmployees().size();
-            }
-        }
-        Comparator<Department> comparator;
-        if ("name".equals(sortBy)) {
-            comparator = Comparator.comparing(Department::getName, String.CASE_INSENSITIVE_ORDER);
-        } else if ("description".equals(sortBy)) {
-            comparator = Comparator.comparing(
-                dept -> dept.getDescription() != null ? dept.getDescription() : "",
-                String.CASE_INSENSITIVE_ORDER
-            );
-        } else {
-            comparator = Comparator.comparing(Department::getName, String.CASE_INSENSITIVE_ORDER);
-        }
-        
-        if (!ascending) {
-            comparator = comparator.reversed();
-        }
-        
-        return departments.stream()
-                .sorted(comparator)
-                .collect(Collectors.toList());
+    public Page<DepartmentSummary> findSummaries(Pageable pageable) {
+        return departmentRepository.findSummaries(pageable);
     }
 
     @Override
@@ -71,31 +59,43 @@ public class DepartmentServiceImpl implements DepartmentService {
         if (departmentRepository.existsByName(department.getName())) {
             throw new IllegalArgumentException("Department with name '" + department.getName() + "' already exists");
         }
-        return departmentRepository.save(department);
+        Department savedDepartment = departmentRepository.save(department);
+        dashboardStatsService.onDepartmentCreated(savedDepartment);
+        return savedDepartment;
     }
 
     @Override
     public Department update(Integer id, Department department) {
         Department existingDept = departmentRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Department not found with id: " + id));
+        WriteConflicts.requireVersion(Department.class, id, department.getVersion(), existingDept.getVersion());
         
         if (!existingDept.getName().equals(department.getName()) && 
             departmentRepository.existsByName(department.getName())) {
             throw new IllegalArgumentException("Department with name '" + department.getName() + "' already exists");
         }
         
+        boolean renamed = !existingDept.getName().equals(department.getName());
         existingDept.setName(department.getName());
         existingDept.setDescription(department.getDescription());
         
-        return departmentRepository.save(existingDept);
+        Department savedDepartment = departmentRepository.save(existingDept);
+        if (renamed) {
+            dashboardStatsService.onDepartmentRenamed(savedDepartment);
+        }
+        return savedDepartment;
     }
 
     @Override
     public void deleteById(Integer id) throws IllegalStateException {
+        if (!departmentRepository.existsById(id)) {
+            throw new IllegalArgumentException("Department not found with id: " + id);
+        }
         if (hasEmployees(id)) {
             throw new IllegalStateException("Cannot delete department. It still has employees.");
         }
         departmentRepository.deleteById(id);
+        dashboardStatsService.onDepartmentDeleted(id);
     }
 
     @Override
@@ -122,6 +122,7 @@ public class DepartmentServiceImpl implements DepartmentService {
             throw new IllegalArgumentException("Employee is already in this department");
         }
         
+        Map<String, DashboardStat> statsBefore = dashboardStatsService.contributionOf(employee.getAccount(), employee);
         Department oldDepartment = employee.getDepartment();
         if (oldDepartment != null) {
             oldDepartment.getEmployees().remove(employee);
@@ -129,6 +130,8 @@ public class DepartmentServiceImpl implements DepartmentService {
         
         employee.setDepartment(department);
         employeeRepository.save(employee);
+        dashboardStatsService.applyChange(statsBefore, dashboardStatsService.contributionOf(employee.getAccount(), employee));
+        userDetailsCache.evictAfterCommit(employee.getAccount().getUsername());
     }
     
     @Override
@@ -143,9 +146,12 @@ public class DepartmentServiceImpl implements DepartmentService {
             throw new IllegalArgumentException("Employee is not in this department");
         }
         
+        Map<String, DashboardStat> statsBefore = dashboardStatsService.contributionOf(employee.getAccount(), employee);
         department.getEmployees().remove(employee);
         employee.setDepartment(null);
         employeeRepository.save(employee);
+        dashboardStatsService.applyChange(statsBefore, dashboardStatsService.contributionOf(employee.getAccount(), employee));
+        userDetailsCache.evictAfterCommit(employee.getAccount().getUsername());
     }
 }
 
@@ -0,0 +1,381 @@
+package com.company.miniproject.service.impl;
+
+import com.company.miniproject.dto.EmployeeImportError;
+import com.company.miniproject.dto.EmployeeImportResult;
+import com.company.miniproject.dto.EmployeeRegistrationDto;
+import com.company.miniproject.entity.*;
+import com.company.miniproject.repository.*;
+import com.company.miniproject.search.EmployeeNameIndex;
+import com.company.miniproject.security.BoundedPasswordEncoder;
+import com.company.miniproject.security.PasswordHashingUnavailableException;
+import com.company.miniproject.service.DashboardStatsService;
+import com.company.miniproject.service.EmployeeImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the CSV in batches. Per batch: validate rows, check uniqueness with one IN query per
+ * unique column, hash passwords in parallel outside any transaction, then insert the batch with
+ * multi-row JDBC statements and apply the summed dashboard deltas in a single short transaction.
+ */
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    private static final List<String> COLUMNS = List.of(
+            "fullName", "birthDate", "gender", "phone", "address", "department", "username", "email", "password");
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final EmployeeBatchInsertRepository employeeBatchInsertRepository;
+    private final AccountRepository accountRepository;
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final RoleRepository roleRepository;
+    private final DashboardStatsService dashboardStatsService;
+    private final EmployeeNameIndex employeeNameIndex;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder importPasswordEncoder;
+    private final int batchSize;
+    private final int hashingParallelism;
+
+    public EmployeeImportServiceImpl(EmployeeBatchInsertRepository employeeBatchInsertRepository,
+                                     AccountRepository accountRepository,
+                                     EmployeeRepository employeeRepository,
+                                     DepartmentRepository departmentRepository,
+                                     RoleRepository roleRepository,
+                                     DashboardStatsService dashboardStatsService,
+                                     EmployeeNameIndex employeeNameIndex,
+                                     Validator validator,
+                                     PlatformTransactionManager transactionManager,
+                                     PasswordEncoder passwordEncoder,
+                                     ThreadPoolExecutor passwordHashingExecutor,
+                                     @Value("${app.employee-import.batch-size:1000}") int batchSize,
+                                     @Value("${app.employee-import.bcrypt-strength:0}") int bcryptStrength) {
+        this.employeeBatchInsertRepository = employeeBatchInsertRepository;
+        this.accountRepository = accountRepository;
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.roleRepository = roleRepository;
+        this.dashboardStatsService = dashboardStatsService;
+        this.employeeNameIndex = employeeNameIndex;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.hashingParallelism = passwordHashingExecutor.getMaximumPoolSize();
+        // A lower import cost is flagged by upgradeEncoding() and re-hashed at the
+        // application cost on the employee's first successful login.
+        this.importPasswordEncoder = bcryptStrength > 0
+                ? new BoundedPasswordEncoder(
+                        new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(bcryptStrength))),
+                        passwordHashingExecutor)
+                : passwordEncoder;
+    }
+
+    @Override
+    public EmployeeImportResult importCsv(InputStream csv) throws IOException {
+        Map<String, Department> departmentsByName = departmentRepository.findAll().stream()
+                .collect(Collectors.toMap(dept -> dept.getName().trim().toLowerCase(Locale.ROOT), dept -> dept, (a, b) -> a));
+        Role employeeRole = roleRepository.findByName("EMPLOYEE")
+                .orElseThrow(() -> new IllegalStateException("EMPLOYEE role not found in database"));
+        ImportRun run = new ImportRun(departmentsByName, employeeRole);
+
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setHeader()
+                .setSkipHeaderRecord(true)
+                .setIgnoreEmptyLines(true)
+                .setTrim(true)
+                .get();
+        try (Reader reader = new InputStreamReader(csv, StandardCharsets.UTF_8);
+             CSVParser parser = format.parse(reader)) {
+            List<String> missing = COLUMNS.stream()
+                    .filter(column -> !parser.getHeaderMap().containsKey(column))
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("CSV is missing required columns: " + String.join(", ", missing));
+            }
+
+            List<ImportRow> batch = new ArrayList<>(batchSize);
+            for (CSVRecord record : parser) {
+                run.totalRows++;
+                batch.add(toRow(record));
+                if (batch.size() == batchSize) {
+                    importBatch(batch, run);
+                    batch.clear();
+                }
+            }
+            importBatch(batch, run);
+        }
+
+        return new EmployeeImportResult(run.totalRows, run.importedCount, run.failedCount, run.errors);
+    }
+
+    private void importBatch(List<ImportRow> rows, ImportRun run) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<ImportRow> valid = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            String error = validate(row, run);
+            if (error != null) {
+                run.fail(row.rowNumber(), error);
+            } else {
+                valid.add(row);
+            }
+        }
+        valid = rejectExisting(valid, run);
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        List<String> hashes = hashPasswords(valid.stream().map(row -> row.dto().getPassword()).toList());
+        List<Employee> employees = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            employees.add(toEmployee(valid.get(i).dto(), hashes.get(i), run));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                employeeBatchInsertRepository.insertAll(employees);
+                dashboardStatsService.applyChange(Map.of(), sumContributions(employees));
+                employeeNameIndex.putAllAfterCommit(employees.stream()
+                        .collect(Collectors.toMap(Employee::getId, Employee::getFullName)));
+            });
+            run.importedCount += employees.size();
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent write took one of the checked usernames/emails/phones; the whole batch rolled back.
+            for (ImportRow row : valid) {
+                run.fail(row.rowNumber(), "Conflicts with data changed during the import. Please re-import this row.");
+            }
+        }
+    }
+
+    private String validate(ImportRow row, ImportRun run) {
+        if (row.parseError() != null) {
+            return row.parseError();
+        }
+        EmployeeRegistrationDto dto = row.dto();
+        if (dto.getPassword() == null || dto.getPassword().isEmpty()) {
+            return "Password is required";
+        }
+        if (row.department() != null) {
+            Department department = run.departmentsByName.get(row.department().toLowerCase(Locale.ROOT));
+            if (department == null) {
+                return "Department not found: " + row.department();
+            }
+            dto.setDepartmentId(department.getId());
+        }
+        Set<ConstraintViolation<EmployeeRegistrationDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        if (!run.seenUsernames.add(dto.getUsername().toLowerCase(Locale.ROOT))) {
+            return "Username is duplicated in the file";
+        }
+        if (!run.seenEmails.add(Account.normalizeEmail(dto.getEmail()))) {
+            return "Email is duplicated in the file";
+        }
+        if (!run.seenPhones.add(dto.getPhone())) {
+            return "Phone number is duplicated in the file";
+        }
+        return null;
+    }
+
+    private List<ImportRow> rejectExisting(List<ImportRow> rows, ImportRun run) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<String> existingUsernames = lowerCased(accountRepository.findExistingUsernames(
+                rows.stream().map(row -> row.dto().getUsername()).toList()));
+        Set<String> existingEmails = lowerCased(accountRepository.findExistingEmails(
+                rows.stream().map(row -> Account.normalizeEmail(row.dto().getEmail())).toList()));
+        Set<String> existingPhones = new HashSet<>(employeeRepository.findExistingPhones(
+                rows.stream().map(row -> row.dto().getPhone()).toList()));
+
+        List<ImportRow> remaining = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (existingUsernames.contains(row.dto().getUsername().toLowerCase(Locale.ROOT))) {
+                run.fail(row.rowNumber(), "Username already exists");
+            } else if (existingEmails.contains(Account.normalizeEmail(row.dto().getEmail()))) {
+                run.fail(row.rowNumber(), "Email already exists");
+            } else if (existingPhones.contains(row.dto().getPhone())) {
+                run.fail(row.rowNumber(), "Phone number already exists");
+            } else {
+                remaining.add(row);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Hashes on the shared bounded pool, keeping at most one in-flight task per hashing thread
+     * so an import never fills the queue that interactive logins also wait in.
+     */
+    private List<String> hashPasswords(List<String> rawPasswords) {
+        Semaphore inFlight = new Semaphore(hashingParallelism);
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+            for (String rawPassword : rawPasswords) {
+                futures.add(callers.submit(() -> {
+                    inFlight.acquire();
+                    try {
+                        return importPasswordEncoder.encode(rawPassword);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Interrupted while hashing imported passwords", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PasswordHashingUnavailableException unavailable) {
+                throw unavailable;
+            }
+            throw new PasswordHashingUnavailableException("Failed to hash imported passwords", e.getCause());
+        }
+    }
+
+    private Employee toEmployee(EmployeeRegistrationDto dto, String passwordHash, ImportRun run) {
+        Account account = new Account(dto.getUsername(), passwordHash, dto.getEmail(), AccountStatus.Active);
+        account.getRoles().add(run.employeeRole);
+
+        Department department = run.departmentsById.get(dto.getDepartmentId());
+        Department departmentRef = new Department();
+        departmentRef.setId(department.getId());
+        departmentRef.setName(department.getName());
+
+        Employee employee = new Employee();
+        employee.setFullName(dto.getFullName());
+        employee.setBirthDate(dto.getBirthDate());
+        employee.setGender(dto.getGender());
+        employee.setPhone(dto.getPhone());
+        employee.setAddress(dto.getAddress());
+        employee.setAccount(account);
+        // Detached reference only: setDepartment() would otherwise grow the loaded department's collection.
+        employee.setDepartment(departmentRef);
+        return employee;
+    }
+
+    private Map<String, DashboardStat> sumContributions(List<Employee> employees) {
+        Map<String, DashboardStat> totals = new HashMap<>();
+        for (Employee employee : employees) {
+            dashboardStatsService.contributionOf(employee.getAccount(), employee).forEach((key, stat) ->
+                    totals.merge(key, stat, (total, next) -> {
+                        total.setStatValue(total.getStatValue() + next.getStatValue());
+                        return total;
+                    }));
+        }
+        return totals;
+    }
+
+    private ImportRow toRow(CSVRecord record) {
+        EmployeeRegistrationDto dto = new EmployeeRegistrationDto();
+        dto.setFullName(value(record, "fullName"));
+        dto.setPhone(value(record, "phone"));
+        dto.setAddress(value(record, "address"));
+        dto.setUsername(value(record, "username"));
+        dto.setEmail(value(record, "email"));
+        dto.setPassword(value(record, "password"));
+
+        String birthDate = value(record, "birthDate");
+        String gender = value(record, "gender");
+        String department = value(record, "department");
+        String parseError = null;
+        try {
+            dto.setBirthDate(birthDate != null ? LocalDate.parse(birthDate) : null);
+        } catch (DateTimeParseException e) {
+            parseError = "Birth date must use the format yyyy-MM-dd";
+        }
+        if (gender != null) {
+            dto.setGender(Arrays.stream(Gender.values())
+                    .filter(value -> value.name().equalsIgnoreCase(gender))
+                    .findFirst()
+                    .orElse(null));
+            if (dto.getGender() == null && parseError == null) {
+                parseError = "Gender must be one of " + Arrays.toString(Gender.values());
+            }
+        }
+        // +1 for the header line, so the number matches what a spreadsheet shows
+        return new ImportRow(record.getRecordNumber() + 1, dto, department, parseError);
+    }
+
+    private static String value(CSVRecord record, String column) {
+        String value = record.isSet(column) ? record.get(column) : null;
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static Set<String> lowerCased(Collection<String> values) {
+        return values.stream()
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+    }
+
+    private record ImportRow(long rowNumber, EmployeeRegistrationDto dto, String department, String parseError) {
+    }
+
+    private static final class ImportRun {
+        private final Map<String, Department> departmentsByName;
+        private final Map<Integer, Department> departmentsById;
+        private final Role employeeRole;
+        private final Set<String> seenUsernames = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final Set<String> seenPhones = new HashSet<>();
+        private final List<EmployeeImportError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedCount;
+        private long failedCount;
+
+        private ImportRun(Map<String, Department> departmentsByName, Role employeeRole) {
+            this.departmentsByName = departmentsByName;
+            this.departmentsById = departmentsByName.values().stream()
+                    .collect(Collectors.toMap(Department::getId, dept -> dept));
+            this.employeeRole = employeeRole;
+        }
+
+        private void fail(long rowNumber, String message) {
+            failedCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new EmployeeImportError(rowNumber, message));
+            }
+        }
+    }
+}
@@ -1,18 +1,35 @@
 package com.company.miniproject.service.impl;
 
 import com.company.miniproject.dto.ChangePasswordDto;
+import com.company.miniproject.dto.CursorPage;
 import com.company.miniproject.dto.EmployeeRegistrationDto;
 import com.company.miniproject.entity.*;
 import com.company.miniproject.repository.*;
+import com.company.miniproject.repository.specification.EmployeeSpecifications;
+import com.company.miniproject.repository.specification.KeysetSpecifications;
+import com.company.miniproject.search.EmployeeNameIndex;
+import com.company.miniproject.search.SearchText;
+import com.company.miniproject.security.UserDetailsCache;
+import com.company.miniproject.service.DashboardStatsService;
 import com.company.miniproject.service.EmployeeService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -34,6 +51,18 @@ public class EmployeeServiceImpl implements EmployeeService {
     
     @Autowired
     private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+    
+    @Autowired
+    private EmployeeNameIndex employeeNameIndex;
+    
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+    
+    @Value("${app.search.employee-index.max-candidates:5000}")
+    private int maxIndexCandidates;
 
     @Override
     @Transactional(readOnly = true)
@@ -44,13 +73,121 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Override
     @Transactional(readOnly = true)
     public Page<Employee> searchEmployees(String keyword, Integer departmentId, Pageable pageable) {
-        return employeeRepository.searchEmployees(keyword, departmentId, pageable);
+        String searchKey = SearchText.fold(keyword);
+        if (keyword != null && !keyword.trim().isEmpty() && searchKey.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        
+        if (employeeNameIndex.canSearch(searchKey)) {
+            List<Integer> candidateIds = employeeNameIndex.search(searchKey);
+            if (candidateIds.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            if (candidateIds.size() <= maxIndexCandidates) {
+                return employeeRepository.findByIdInAndDepartmentId(candidateIds, departmentId, pageable);
+            }
+            if (isNameOrder(pageable.getSort())) {
+                return pageInNameOrder(searchKey, candidateIds, departmentId, pageable);
+            }
+        }
+        return employeeRepository.searchEmployees(searchKey, departmentId, pageable);
+    }
+
+    /**
+     * One page of a keyword that matches too many employees to pass as an id list, in name order.
+     * The name index already holds every match and its folded name, so the page is cut from the
+     * sorted match list and only its rows are loaded; joining the search terms instead costs about a
+     * full scan per page for a common name. The total is the match count. Within a department the
+     * matches come from the search terms joined to that department instead, so only matching ids
+     * cross the wire rather than every id in the department.
+     */
+    private Page<Employee> pageInNameOrder(String searchKey, List<Integer> matches, Integer departmentId,
+                                           Pageable pageable) {
+        if (departmentId != null) {
+            matches = employeeRepository.findIdsMatchingInDepartment(searchKey, departmentId);
+        }
+        List<Integer> ordered = employeeNameIndex.inNameOrder(matches);
+        if (pageable.getSort().getOrderFor("fullName").isDescending()) {
+            ordered = ordered.reversed();
+        }
+        
+        List<Integer> pageIds = ordered;
+        if (pageable.isPaged()) {
+            int from = (int) Math.min(pageable.getOffset(), ordered.size());
+            pageIds = ordered.subList(from, Math.min(from + pageable.getPageSize(), ordered.size()));
+        }
+        Map<Integer, Employee> byId = new HashMap<>();
+        employeeRepository.findWithAccountAndDepartmentByIdIn(pageIds).forEach(e -> byId.put(e.getId(), e));
+        List<Employee> content = pageIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, ordered.size());
+    }
+
+    /** {@code fullName}, optionally followed by {@code id} in the same direction: the list's name sort. */
+    private static boolean isNameOrder(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.isEmpty() || orders.size() > 2 || !orders.get(0).getProperty().equals("fullName")) {
+            return false;
+        }
+        return orders.size() == 1 || (orders.get(1).getProperty().equals("id")
+                && orders.get(1).getDirection() == orders.get(0).getDirection());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Employee> scrollEmployees(String keyword, Integer departmentId, String sortField,
+                                                Sort.Direction direction, String after, int size) {
+        Specification<Employee> filter = KeysetSpecifications.unrestricted();
+        
+        String searchKey = SearchText.fold(keyword);
+        if (keyword != null && !keyword.trim().isEmpty() && searchKey.isEmpty()) {
+            return new CursorPage<>(List.of(), null, false);
+        }
+        if (!searchKey.isEmpty()) {
+            List<Integer> candidateIds = employeeNameIndex.canSearch(searchKey) ? employeeNameIndex.search(searchKey) : null;
+            if (candidateIds != null && candidateIds.isEmpty()) {
+                return new CursorPage<>(List.of(), null, false);
+            }
+            if (candidateIds != null && candidateIds.size() <= maxIndexCandidates) {
+                filter = filter.and(EmployeeSpecifications.idIn(candidateIds));
+            } else {
+                filter = filter.and(EmployeeSpecifications.matchesSearchKey(searchKey));
+            }
+        }
+        if (departmentId != null) {
+            filter = filter.and(EmployeeSpecifications.inDepartment(departmentId));
+        }
+        
+        return KeysetQueries.scroll(employeeRepository, filter, sortField, direction, after, size,
+                "account", "department");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Employee> lookupEmployees(String keyword, Integer excludeDepartmentId, Integer excludeProjectId, int limit) {
+        Specification<Employee> filter = EmployeeSpecifications.fetchDepartment();
+        
+        String searchKey = SearchText.fold(keyword);
+        if (keyword != null && !keyword.trim().isEmpty() && searchKey.isEmpty()) {
+            return List.of();
+        }
+        if (!searchKey.isEmpty()) {
+            filter = filter.and(EmployeeSpecifications.matchesSearchKey(searchKey));
+        }
+        if (excludeDepartmentId != null) {
+            filter = filter.and(EmployeeSpecifications.notInDepartment(excludeDepartmentId));
+        }
+        if (excludeProjectId != null) {
+            filter = filter.and(EmployeeSpecifications.notAssignedToProject(excludeProjectId));
+        }
+        
+        Sort sort = Sort.by("fullName").and(Sort.by("id"));
+        return employeeRepository.findBy(filter, query -> query.sortBy(sort).limit(limit).all());
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Employee> findById(Integer id) {
-        return employeeRepository.findById(id);
+        return employeeRepository.findWithAccountAndDepartmentById(id);
     }
 
     @Override
@@ -68,18 +205,6 @@ public class EmployeeServiceImpl implements EmployeeService {
             throw new IllegalArgumentException("Password must be at least 6 characters");
         }
         
-        if (accountRepository.existsByUsername(dto.getUsername())) {
-            throw new IllegalArgumentException("Username already exists. Please choose a different username.");
-        }
-        String normalizedEmail = dto.getEmail().trim();
-        Optional<Account> existingAccount = accountRepository.findByEmailIgnoreCase(normalizedEmail);
-        if (existingAccount.isPresent()) {
-            throw new IllegalArgumentException("Email already exists. This email is already used by another user. Please use a different email address.");
-        }
-        if (employeeRepository.existsByPhone(dto.getPhone())) {
-            throw new IllegalArgumentException("Phone number already exists. Please use a different phone number.");
-        }
-        
         Department department = departmentRepository.findById(dto.getDepartmentId())
                 .orElseThrow(() -> new IllegalArgumentException("Department not found with id: " + dto.getDepartmentId()));
         
@@ -95,8 +220,6 @@ public class EmployeeServiceImpl implements EmployeeService {
         roles.add(employeeRole);
         account.setRoles(roles);
         
-        account = accountRepository.save(account);
-        
         Employee employee = new Employee();
         employee.setFullName(dto.getFullName());
         employee.setBirthDate(dto.getBirthDate());
@@ -104,9 +227,19 @@ public class EmployeeServiceImpl implements EmployeeService {
         employee.setPhone(dto.getPhone());
         employee.setAddress(dto.getAddress());
         employee.setDepartment(department);
-        employee.setAccount(account);
         
-        return employeeRepository.save(employee);
+        // The unique keys on username, email and phone decide; no lookups beforehand.
+        Employee savedEmployee;
+        try {
+            employee.setAccount(accountRepository.save(account));
+            savedEmployee = employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            throw WriteConflicts.translate(e);
+        }
+        account = savedEmployee.getAccount();
+        dashboardStatsService.applyChange(Map.of(), dashboardStatsService.contributionOf(account, savedEmployee));
+        employeeNameIndex.putAfterCommit(savedEmployee.getId(), savedEmployee.getFullName());
+        return savedEmployee;
     }
 
     @Override
@@ -115,26 +248,10 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .orElseThrow(() -> new IllegalArgumentException("Employee not found with id: " + id));
         
         Account account = employee.getAccount();
-        
-        if (!account.getUsername().equals(dto.getUsername()) && 
-            accountRepository.existsByUsername(dto.getUsername())) {
-            throw new IllegalArgumentException("Username already exists. Please choose a different username.");
-        }
-        
-        String normalizedNewEmail = dto.getEmail().trim();
-        String normalizedCurrentEmail = account.getEmail().trim();
-        
-        if (!normalizedCurrentEmail.equalsIgnoreCase(normalizedNewEmail)) {
-            Optional<Account> existingAccount = accountRepository.findByEmailIgnoreCase(normalizedNewEmail);
-            if (existingAccount.isPresent() && !existingAccount.get().getId().equals(account.getId())) {
-                throw new IllegalArgumentException("Email already exists. This email is already used by another user. Please use a different email address.");
-            }
-        }
-        
-        if (!employee.getPhone().equals(dto.getPhone()) && 
-            employeeRepository.existsByPhone(dto.getPhone())) {
-            throw new IllegalArgumentException("Phone number already exists. Please use a different phone number.");
-        }
+        WriteConflicts.requireVersion(Employee.class, id, dto.getVersion(), employee.getVersion());
+        WriteConflicts.requireVersion(Account.class, account.getId(), dto.getAccountVersion(), account.getVersion());
+        Map<String, DashboardStat> statsBefore = dashboardStatsService.contributionOf(account, employee);
+        String previousUsername = account.getUsername();
         
         Department department = departmentRepository.findById(dto.getDepartmentId())
                 .orElseThrow(() -> new IllegalArgumentException("Department not found with id: " + dto.getDepartmentId()));
@@ -144,7 +261,6 @@ public class EmployeeServiceImpl implements EmployeeService {
         if (dto.getPassword() != null && !dto.getPassword().isEmpty()) {
             account.setPassword(passwordEncoder.encode(dto.getPassword()));
         }
-        accountRepository.save(account);
         
         employee.setFullName(dto.getFullName());
         employee.setBirthDate(dto.getBirthDate());
@@ -160,7 +276,17 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
         employee.setDepartment(department);
         
-        return employeeRepository.save(employee);
+        Employee savedEmployee;
+        try {
+            savedEmployee = employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            throw WriteConflicts.translate(e);
+        }
+        dashboardStatsService.applyChange(statsBefore, dashboardStatsService.contributionOf(account, savedEmployee));
+        employeeNameIndex.putAfterCommit(savedEmployee.getId(), savedEmployee.getFullName());
+        userDetailsCache.evictAfterCommit(previousUsername);
+        userDetailsCache.evictAfterCommit(account.getUsername());
+        return savedEmployee;
     }
 
     @Override
@@ -187,15 +313,21 @@ public class EmployeeServiceImpl implements EmployeeService {
         
         account.setPassword(passwordEncoder.encode(dto.getNewPassword()));
         accountRepository.save(account);
+        userDetailsCache.evictAfterCommit(account.getUsername());
     }
 
     @Override
     public void deleteById(Integer id) {
-        if (!employeeRepository.existsById(id)) {
-            throw new IllegalArgumentException("Employee not found with id: " + id);
-        }
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Employee not found with id: " + id));
         
-        employeeRepository.deleteById(id);
+        Map<String, DashboardStat> statsBefore = dashboardStatsService.contributionOf(employee.getAccount(), employee);
+        employeeRepository.delete(employee);
+        dashboardStatsService.applyChange(statsBefore, Map.of());
+        employeeNameIndex.removeAfterCommit(id);
+        if (employee.getAccount() != null) {
+            userDetailsCache.evictAfterCommit(employee.getAccount().getUsername());
+        }
     }
 
     @Override
@@ -213,6 +345,15 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Override
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return accountRepository.existsByEmail(email);
+        return accountRepository.existsByEmail(Account.normalizeEmail(email));
+    }
+
+    @Override
+    public Integer refreshMissingSearchTerms(Integer afterId, int batchSize) {
+        List<Employee> employees = employeeRepository.findWithoutSearchTerms(afterId, PageRequest.of(0, batchSize));
+        for (Employee employee : employees) {
+            employee.refreshSearchTerms();
+        }
+        return employees.isEmpty() ? null : employees.get(employees.size() - 1).getId();
     }
 }
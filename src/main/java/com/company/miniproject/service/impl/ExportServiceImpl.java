@@ -0,0 +1,73 @@
+package com.company.miniproject.service.impl;
+
+import com.company.miniproject.dto.AccountExportRow;
+import com.company.miniproject.dto.EmployeeExportRow;
+import com.company.miniproject.dto.ProjectAssignmentExportRow;
+import com.company.miniproject.export.ExportFormat;
+import com.company.miniproject.export.RowWriter;
+import com.company.miniproject.repository.ExportRowRepository;
+import com.company.miniproject.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Each export reads a forward-only stream of DTO projections (nothing enters the persistence
+ * context) and writes it row by row, so memory use does not depend on the row count.
+ * The transaction keeps the streaming result set open until the last row is written.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements ExportService {
+
+    private static final List<String> EMPLOYEE_HEADER = List.of(
+            "id", "fullName", "birthDate", "gender", "phone", "address", "department", "username", "email", "status");
+    private static final List<String> ACCOUNT_HEADER = List.of(
+            "id", "username", "email", "status", "roles");
+    private static final List<String> ASSIGNMENT_HEADER = List.of(
+            "id", "project", "projectStatus", "employee", "department", "roleInProject", "joinDate");
+
+    @Autowired
+    private ExportRowRepository exportRowRepository;
+
+    @Override
+    public void exportEmployees(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<EmployeeExportRow> rows = exportRowRepository.streamEmployees();
+             RowWriter writer = format.open(out, EMPLOYEE_HEADER)) {
+            for (Iterator<EmployeeExportRow> it = rows.iterator(); it.hasNext(); ) {
+                EmployeeExportRow row = it.next();
+                writer.writeRow(row.getId(), row.getFullName(), row.getBirthDate(), row.getGender(), row.getPhone(),
+                        row.getAddress(), row.getDepartmentName(), row.getUsername(), row.getEmail(), row.getStatus());
+            }
+        }
+    }
+
+    @Override
+    public void exportAccounts(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<AccountExportRow> rows = exportRowRepository.streamAccounts();
+             RowWriter writer = format.open(out, ACCOUNT_HEADER)) {
+            for (Iterator<AccountExportRow> it = rows.iterator(); it.hasNext(); ) {
+                AccountExportRow row = it.next();
+                writer.writeRow(row.getId(), row.getUsername(), row.getEmail(), row.getStatus(), row.getRoles());
+            }
+        }
+    }
+
+    @Override
+    public void exportProjectAssignments(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ProjectAssignmentExportRow> rows = exportRowRepository.streamProjectAssignments();
+             RowWriter writer = format.open(out, ASSIGNMENT_HEADER)) {
+            for (Iterator<ProjectAssignmentExportRow> it = rows.iterator(); it.hasNext(); ) {
+                ProjectAssignmentExportRow row = it.next();
+                writer.writeRow(row.getId(), row.getProjectName(), row.getProjectStatus(), row.getEmployeeName(),
+                        row.getDepartmentName(), row.getRoleInProject(), row.getJoinDate());
+            }
+        }
+    }
+}
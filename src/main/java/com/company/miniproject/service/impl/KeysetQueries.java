@@ -0,0 +1,81 @@
+package com.company.miniproject.service.impl;
+
+import com.company.miniproject.dto.CursorPage;
+import com.company.miniproject.repository.specification.KeysetSpecifications;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Keyset pages ordered by a string sort field and then id. The cursor carries the last row's sort
+ * value and id, so the next page is one range query and keeps working after that row is renamed
+ * or deleted. It also names the sort field and is refused under any other sort.
+ */
+final class KeysetQueries {
+
+    private static final String INVALID_CURSOR = "Invalid page cursor";
+
+    private KeysetQueries() {
+    }
+
+    static <T> CursorPage<T> scroll(JpaSpecificationExecutor<T> executor,
+                                    Specification<T> filter,
+                                    String sortField,
+                                    Sort.Direction direction,
+                                    String cursor,
+                                    int size,
+                                    String... fetchPaths) {
+        Specification<T> spec = filter;
+        if (cursor != null && !cursor.isEmpty()) {
+            Position position = decode(cursor, sortField);
+            spec = spec.and(KeysetSpecifications.after(sortField, direction, position.sortValue(), position.id()));
+        }
+        
+        Sort sort = Sort.by(direction, sortField).and(Sort.by(direction, "id"));
+        List<T> rows = executor.findBy(spec, query -> {
+            FetchableFluentQuery<T> page = query.sortBy(sort).limit(size + 1);
+            return (fetchPaths.length > 0 ? page.project(fetchPaths) : page).all();
+        });
+        
+        boolean hasNext = rows.size() > size;
+        List<T> content = new ArrayList<>(hasNext ? rows.subList(0, size) : rows);
+        String nextCursor = hasNext ? encode(content.get(content.size() - 1), sortField) : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    private static String encode(Object last, String sortField) {
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(last);
+        Object id = wrapper.getPropertyValue("id");
+        Object sortValue = wrapper.getPropertyValue(sortField);
+        String payload = id + ":" + sortField + ":" + sortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decode(String cursor, String sortField) {
+        String payload;
+        try {
+            payload = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+        String[] parts = payload.split(":", 3);
+        if (parts.length != 3 || !parts[1].equals(sortField)) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+        try {
+            return new Position(Integer.valueOf(parts[0]), parts[2]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR);
+        }
+    }
+
+    private record Position(Integer id, String sortValue) {
+    }
+}
@@ -1,12 +1,18 @@
 package com.company.miniproject.service.impl;
 
+import com.company.miniproject.dto.CursorPage;
 import com.company.miniproject.dto.ProjectAssignmentDto;
 import com.company.miniproject.entity.*;
 import com.company.miniproject.repository.*;
+import com.company.miniproject.repository.specification.KeysetSpecifications;
+import com.company.miniproject.repository.specification.ProjectSpecifications;
+import com.company.miniproject.service.DashboardStatsService;
 import com.company.miniproject.service.ProjectService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +32,9 @@ public class ProjectServiceImpl implements ProjectService {
     
     @Autowired
     private ProjectAssignmentRepository projectAssignmentRepository;
+    
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
 
     @Override
     @Transactional(readOnly = true)
@@ -39,6 +48,18 @@ public class ProjectServiceImpl implements ProjectService {
         return projectRepository.findByEmployeeId(employeeId, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Project> scrollProjects(Integer employeeId, String sortField, Sort.Direction direction,
+                                              String after, int size) {
+        Specification<Project> filter = KeysetSpecifications.unrestricted();
+        if (employeeId != null) {
+            filter = filter.and(ProjectSpecifications.assignedTo(employeeId));
+        }
+        
+        return KeysetQueries.scroll(projectRepository, filter, sortField, direction, after, size);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<Project> findById(Integer id) {
@@ -58,13 +79,19 @@ public class ProjectServiceImpl implements ProjectService {
             project.setStatus(ProjectStatus.Planning);
         }
         
-        return projectRepository.save(project);
+        boolean isNew = project.getId() == null;
+        Project savedProject = projectRepository.save(project);
+        if (isNew) {
+            dashboardStatsService.onProjectCreated();
+        }
+        return savedProject;
     }
 
     @Override
     public Project update(Integer id, Project project) {
         Project existingProject = projectRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + id));
+        WriteConflicts.requireVersion(Project.class, id, project.getVersion(), existingProject.getVersion());
         
         if (project.getStartDate() != null && project.getEndDate() != null) {
             if (project.getEndDate().isBefore(project.getStartDate()) || 
@@ -87,6 +114,7 @@ public class ProjectServiceImpl implements ProjectService {
                 .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + id));
         
         projectRepository.deleteById(id);
+        dashboardStatsService.onProjectDeleted();
     }
 
     @Override
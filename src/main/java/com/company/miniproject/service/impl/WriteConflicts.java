@@ -0,0 +1,62 @@
+package com.company.miniproject.service.impl;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Turns conflicts the database detects into the errors the forms already understand: a unique-key
+ * violation from the flush becomes the "... already exists" message bound to the field, and an
+ * edit submitted from a stale form fails the same way a concurrent flush would.
+ */
+final class WriteConflicts {
+
+    static final String USERNAME_EXISTS = "Username already exists. Please choose a different username.";
+    static final String EMAIL_EXISTS = "Email already exists. This email is already used by another user. Please use a different email address.";
+    static final String PHONE_EXISTS = "Phone number already exists. Please use a different phone number.";
+
+    // Keys are the constraint names declared on the entities' @Table.
+    private static final Map<String, String> UNIQUE_KEY_MESSAGES = Map.of(
+            "uk_account_username", USERNAME_EXISTS,
+            "uk_account_email", EMAIL_EXISTS,
+            "uk_employee_phone", PHONE_EXISTS);
+
+    private WriteConflicts() {
+    }
+
+    /**
+     * The field message for a known unique key, as an IllegalArgumentException; any other
+     * integrity violation is returned unchanged.
+     */
+    static RuntimeException translate(DataIntegrityViolationException e) {
+        String violated = describe(e).toLowerCase(Locale.ROOT);
+        for (Map.Entry<String, String> entry : UNIQUE_KEY_MESSAGES.entrySet()) {
+            if (violated.contains(entry.getKey())) {
+                return new IllegalArgumentException(entry.getValue(), e);
+            }
+        }
+        return e;
+    }
+
+    /** Rejects a form rendered from an older version than the row now holds. */
+    static void requireVersion(Class<?> entityType, Integer id, Long submitted, Long current) {
+        if (submitted != null && !submitted.equals(current)) {
+            throw new ObjectOptimisticLockingFailureException(entityType, id);
+        }
+    }
+
+    // Hibernate extracts the constraint name per dialect (MySQL reports it as "table.name");
+    // the driver message is the fallback when it could not.
+    private static String describe(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName();
+            }
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null ? message : "";
+    }
+}
@@ -0,0 +1,8 @@
+-- DASHBOARD (read model maintained by the services, rebuilt on demand and by DashboardStatsInitializer)
+create table `dashboard_stat` (
+    `stat_key` varchar(100) not null,
+    `label` varchar(255),
+    `stat_value` bigint not null,
+
+    PRIMARY KEY (`stat_key`)
+);
@@ -0,0 +1,23 @@
+-- SEARCH (accent-folded suffixes, filled by the application on write; rows that predate these
+-- tables are filled by SearchTermInitializer on startup)
+create table `employee_search_term` (
+    `employee_id` int not null,
+    `term` varchar(255) not null,
+
+    PRIMARY KEY (`employee_id`, `term`),
+    KEY `idx_employee_search_term` (`term`),
+    FOREIGN KEY (`employee_id`)
+        REFERENCES `employee` (`id`)
+        ON DELETE CASCADE ON UPDATE CASCADE
+);
+
+create table `account_search_term` (
+    `account_id` int not null,
+    `term` varchar(255) not null,
+
+    PRIMARY KEY (`account_id`, `term`),
+    KEY `idx_account_search_term` (`term`),
+    FOREIGN KEY (`account_id`)
+        REFERENCES `account` (`id`)
+        ON DELETE CASCADE ON UPDATE CASCADE
+);
@@ -0,0 +1,5 @@
+-- Optimistic locking (@Version) for the entities edited through forms. Existing rows start at 0.
+ALTER TABLE `account` ADD COLUMN `version` bigint not null default 0;
+ALTER TABLE `department` ADD COLUMN `version` bigint not null default 0;
+ALTER TABLE `employee` ADD COLUMN `version` bigint not null default 0;
+ALTER TABLE `project` ADD COLUMN `version` bigint not null default 0;
@@ -0,0 +1,28 @@
+-- Secondary indexes for the list, dashboard and login queries. InnoDB secondary indexes carry the
+-- primary key, so each of these also covers the id the query joins or pages on.
+-- employee(account_id) needs none: uk_employee_account_id already serves findByAccountId.
+
+-- Employee list filtered by department and ordered by name (the default sort and keyset order);
+-- also backs the department foreign key and the per-department dashboard counts.
+CREATE INDEX `idx_employee_department_full_name` ON `employee` (`department_id`, `full_name`);
+
+-- Whole-table name order: the typeahead lookup (ORDER BY full_name, id LIMIT n), the unfiltered
+-- keyset list and the keyset cursor's (full_name, id) range all read it in order and stop at the limit.
+CREATE INDEX `idx_employee_full_name_id` ON `employee` (`full_name`, `id`);
+
+-- Employees per gender for the dashboard rebuild, counted from the index alone.
+CREATE INDEX `idx_employee_gender` ON `employee` (`gender`);
+
+-- Account list filtered by status and ordered by username; the status counts behind the dashboards.
+CREATE INDEX `idx_account_status_username` ON `account` (`status`, `username`);
+
+-- Accounts holding a role. The primary key (account_id, role_id) only serves the other direction.
+CREATE INDEX `idx_account_role_role_account` ON `account_role` (`role_id`, `account_id`);
+
+-- Assignments of one employee (dashboard, profile projects). uk_project_employee leads with project_id.
+CREATE INDEX `idx_project_assignment_employee_project` ON `project_assignment` (`employee_id`, `project_id`);
+
+-- V1 indexes that are a leading prefix of one above, so every write paid for both. The single-column
+-- indexes on foreign key columns stay, since a foreign key may be bound to the index it was created with.
+DROP INDEX `idx_employee_full_name` ON `employee`;
+DROP INDEX `idx_account_status` ON `account`;
@@ -0,0 +1,3 @@
+-- Account emails are stored trimmed and lower-cased (Account.normalizeEmail), so uk_account_email
+-- rejects case variants on any collation. Bring rows written before that into the same form.
+UPDATE `account` SET `email` = LOWER(TRIM(`email`));
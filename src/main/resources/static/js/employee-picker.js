@@ -0,0 +1,92 @@
+document.addEventListener('DOMContentLoaded', function() {
+    document.querySelectorAll('[data-employee-picker]').forEach(initEmployeePicker);
+});
+
+function initEmployeePicker(container) {
+    const lookupUrl = container.dataset.lookupUrl;
+    const emptyText = container.dataset.emptyText || 'No matching employees found';
+    const input = container.querySelector('input[type="text"]');
+    const hidden = container.querySelector('input[type="hidden"]');
+    const results = container.querySelector('.list-group');
+    const form = container.closest('form');
+    let debounceTimer = null;
+    let pendingRequest = null;
+    
+    if (!input.value) {
+        hidden.value = '';
+    }
+    
+    input.addEventListener('input', () => {
+        hidden.value = '';
+        clearTimeout(debounceTimer);
+        debounceTimer = setTimeout(() => search(input.value.trim()), 250);
+    });
+    
+    input.addEventListener('focus', () => {
+        if (!hidden.value) {
+            search(input.value.trim());
+        }
+    });
+    
+    document.addEventListener('click', event => {
+        if (!container.contains(event.target)) {
+            hide();
+        }
+    });
+    
+    form.addEventListener('submit', event => {
+        if (!hidden.value) {
+            event.preventDefault();
+            input.classList.add('is-invalid');
+            input.focus();
+        }
+    });
+    
+    function search(term) {
+        if (pendingRequest) {
+            pendingRequest.abort();
+        }
+        pendingRequest = new AbortController();
+        
+        const url = new URL(lookupUrl, window.location.origin);
+        url.searchParams.set('q', term);
+        fetch(url, { signal: pendingRequest.signal, headers: { 'Accept': 'application/json' } })
+            .then(response => response.ok ? response.json() : [])
+            .then(render)
+            .catch(error => {
+                if (error.name !== 'AbortError') {
+                    hide();
+                }
+            });
+    }
+    
+    function render(options) {
+        results.innerHTML = '';
+        if (options.length === 0) {
+            const empty = document.createElement('div');
+            empty.className = 'list-group-item text-muted';
+            empty.textContent = emptyText;
+            results.appendChild(empty);
+        }
+        options.forEach(option => {
+            const item = document.createElement('button');
+            item.type = 'button';
+            item.className = 'list-group-item list-group-item-action';
+            item.textContent = option.departmentName
+                ? option.fullName + ' - ' + option.departmentName
+                : option.fullName;
+            item.addEventListener('click', () => {
+                hidden.value = option.id;
+                input.value = item.textContent;
+                input.classList.remove('is-invalid');
+                hide();
+            });
+            results.appendChild(item);
+        });
+        results.classList.remove('d-none');
+    }
+    
+    function hide() {
+        results.classList.add('d-none');
+    }
+}
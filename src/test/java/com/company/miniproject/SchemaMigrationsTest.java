@@ -0,0 +1,87 @@
+package com.company.miniproject;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The Flyway migrations on an embedded H2 database (MySQL mode): the context starts with
+ * hibernate.ddl-auto=validate against the migrated schema, and a database created by the old
+ * script.sql, baselined at V1 and migrated, ends with the same tables, columns and indexes as a
+ * fresh one.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + SchemaMigrationsTest.URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "app.security.password-hashing.bcrypt-strength=4"
+})
+class SchemaMigrationsTest {
+
+    static final String URL = "jdbc:h2:mem:schemamigrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static final String BASELINED_URL =
+            "jdbc:h2:mem:schemamigrations_baselined;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void entitiesValidateAgainstTheMigratedSchema() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion())
+                .isEqualTo(flyway.info().all()[flyway.info().all().length - 1].getVersion().getVersion());
+    }
+
+    @Test
+    void baselinedScriptDatabaseMigratesToTheFreshSchema() {
+        DataSource dataSource = new DriverManagerDataSource(BASELINED_URL, "sa", "");
+        JdbcTemplate baselined = new JdbcTemplate(dataSource);
+        // What script.sql left behind: the V1 tables, without Flyway history.
+        baselined.execute("RUNSCRIPT FROM 'classpath:db/migration/V1__baseline_schema.sql'");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations(flyway.getConfiguration().getLocations())
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        Map<String, List<Map<String, Object>>> fresh = schema(jdbc);
+        assertThat(fresh.get("indexes")).extracting(row -> row.get("index_name"))
+                .contains("idx_employee_full_name_id", "idx_employee_search_term");
+        assertThat(schema(baselined)).isEqualTo(fresh);
+    }
+
+    private static Map<String, List<Map<String, Object>>> schema(JdbcTemplate jdbc) {
+        return Map.of(
+                "columns", jdbc.queryForList(
+                        "SELECT table_name, column_name, data_type, is_nullable, column_default " +
+                        "FROM information_schema.columns WHERE table_schema = 'public' " +
+                        "AND table_name <> 'flyway_schema_history' ORDER BY table_name, column_name"),
+                "indexes", jdbc.queryForList(
+                        "SELECT i.table_name, i.index_name, c.column_name, c.ordinal_position " +
+                        "FROM information_schema.indexes i JOIN information_schema.index_columns c " +
+                        "ON c.index_schema = i.index_schema AND c.index_name = i.index_name " +
+                        "WHERE i.table_schema = 'public' AND i.index_name NOT LIKE 'constraint%' " +
+                        "AND i.index_name NOT LIKE 'primary_key%' AND i.table_name <> 'flyway_schema_history' " +
+                        "ORDER BY i.table_name, i.index_name, c.ordinal_position"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.company.miniproject.config;
+
+import com.company.miniproject.datagen.DatasetGenerator;
+import com.company.miniproject.security.CustomUserDetailsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
+
+/**
+ * An account form submitted while the password hashing pool is saturated (its one thread busy and
+ * its one queue slot taken) gets a 503 with Retry-After, not the generic 500 page, and saves nothing.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + PasswordHashingBusyTest.URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "app.security.password-hashing.bcrypt-strength=4",
+        "app.security.password-hashing.threads=1",
+        "app.security.password-hashing.queue-capacity=1"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PasswordHashingBusyTest {
+
+    static final String URL = "jdbc:h2:mem:passwordhashingbusy;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ThreadPoolExecutor passwordHashingExecutor;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private UserDetails admin;
+
+    @BeforeAll
+    void seed() throws Exception {
+        DatasetGenerator.insert(URL, "sa", "", 10, 42);
+        admin = userDetailsService.loadUserByUsername("admin");
+    }
+
+    @AfterEach
+    void drainPool() {
+        release.countDown();
+    }
+
+    @Test
+    void accountCreateWhileHashingIsSaturatedIsServiceUnavailable() throws Exception {
+        passwordHashingExecutor.execute(this::awaitRelease);
+        passwordHashingExecutor.execute(this::awaitRelease);
+
+        mockMvc.perform(post("/accounts").with(user(admin)).with(csrf())
+                        .param("username", "busy.hashing")
+                        .param("email", "busy.hashing@company.vn")
+                        .param("password", "secret1")
+                        .param("status", "Active")
+                        .param("roleIds", "1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(view().name("error/503"));
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM account WHERE username = 'busy.hashing'", Integer.class))
+                .isZero();
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.miniproject.config;
+
+import com.company.miniproject.datagen.DatasetGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The startup backfill of search terms walks past rows whose values fold to nothing: a first batch
+ * made only of such rows must not end the run before the rows after it get their terms.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + SearchTermInitializerTest.URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "app.security.password-hashing.bcrypt-strength=4",
+        "app.search.term-backfill.batch-size=2"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SearchTermInitializerTest {
+
+    static final String URL = "jdbc:h2:mem:searchterminitializer;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private SearchTermInitializer searchTermInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeAll
+    void seed() throws Exception {
+        DatasetGenerator.insert(URL, "sa", "", 20, 42);
+    }
+
+    @Test
+    void batchOfNamesWithoutTermsDoesNotStopTheBackfill() {
+        jdbc.update("DELETE FROM employee_search_term");
+        jdbc.update("DELETE FROM account_search_term");
+        jdbc.update("UPDATE employee SET full_name = '***' WHERE id IN (1, 2)");
+
+        searchTermInitializer.run(null);
+
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM employee e WHERE id > 2 AND NOT EXISTS " +
+                "(SELECT 1 FROM employee_search_term t WHERE t.employee_id = e.id)", Integer.class)).isZero();
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM employee_search_term WHERE employee_id IN (1, 2)", Integer.class)).isZero();
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM account a WHERE NOT EXISTS " +
+                "(SELECT 1 FROM account_search_term t WHERE t.account_id = a.id)", Integer.class)).isZero();
+    }
+}
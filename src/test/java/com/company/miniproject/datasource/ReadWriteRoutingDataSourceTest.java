@@ -0,0 +1,192 @@
+package com.company.miniproject.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing against two independent embedded databases, each holding a row that names it. The JDBC
+ * cases use DataSourceTransactionManager; the JPA case runs through JpaTransactionManager and
+ * HibernateJpaDialect as the application does: the session takes its connection at begin, before the
+ * read-only flag is published, and only the lazy proxy defers the routing decision past that point.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration READ_YOUR_WRITES_WINDOW = Duration.ofSeconds(5);
+
+    private final MutableClock clock = new MutableClock();
+    private JdbcTemplate replicaJdbc;
+    private ReplicaLagMonitor lagMonitor;
+    private DataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE TABLE replica_lag (seconds DOUBLE)");
+        replicaJdbc.update("INSERT INTO replica_lag VALUES (0)");
+
+        lagMonitor = new ReplicaLagMonitor(replica, "SELECT seconds FROM replica_lag", "",
+                Duration.ofSeconds(2), Duration.ofHours(1));
+        lagMonitor.check();
+
+        routing = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                primary, replica, lagMonitor, READ_YOUR_WRITES_WINDOW, clock, new SimpleMeterRegistry()));
+        jdbc = new JdbcTemplate(routing);
+        useTransactionManager(new DataSourceTransactionManager(routing));
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        lagMonitor.close();
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertThat(readOnlyInstanceName()).isEqualTo("replica");
+        String readWriteInstance = readWrite.execute(status -> instanceName());
+        assertThat(readWriteInstance).isEqualTo("primary");
+        assertThat(instanceName()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyJpaTransactionsUseTheReplica() {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        HibernateJpaVendorAdapter vendorAdapter = new HibernateJpaVendorAdapter();
+        factoryBean.setJpaVendorAdapter(vendorAdapter);
+        factoryBean.setDataSource(routing);
+        factoryBean.setPackagesToScan(ReadWriteRoutingDataSourceTest.class.getPackageName());
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        useTransactionManager(new JpaTransactionManager(entityManagerFactory));
+
+        String readOnlyInstance = readOnly.execute(status -> (String) entityManager
+                .createNativeQuery("SELECT name FROM instance").getSingleResult());
+        assertThat(readOnlyInstance).isEqualTo("replica");
+
+        readWrite.executeWithoutResult(status -> entityManager
+                .createNativeQuery("UPDATE instance SET name = name").executeUpdate());
+        String afterWriteInstance = readOnly.execute(status -> (String) entityManager
+                .createNativeQuery("SELECT name FROM instance").getSingleResult());
+        assertThat(afterWriteInstance).isEqualTo("primary");
+    }
+
+    @Test
+    void readsStayOnThePrimaryForTheWindowAfterAWrite() {
+        readWrite.executeWithoutResult(status -> jdbc.update("UPDATE instance SET name = name"));
+
+        assertThat(readOnlyInstanceName()).isEqualTo("primary");
+        clock.advance(READ_YOUR_WRITES_WINDOW);
+        assertThat(readOnlyInstanceName()).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinReads() {
+        readWrite.executeWithoutResult(status -> {
+            jdbc.update("UPDATE instance SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnlyInstanceName()).isEqualTo("replica");
+    }
+
+    @Test
+    void laggingReplicaIsSkippedUntilItCatchesUp() {
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 10");
+        lagMonitor.check();
+        assertThat(readOnlyInstanceName()).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_lag SET seconds = NULL");
+        lagMonitor.check();
+        assertThat(readOnlyInstanceName()).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_lag SET seconds = 1");
+        lagMonitor.check();
+        assertThat(readOnlyInstanceName()).isEqualTo("replica");
+    }
+
+    private void useTransactionManager(PlatformTransactionManager transactionManager) {
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private String readOnlyInstanceName() {
+        return readOnly.execute(status -> instanceName());
+    }
+
+    private String instanceName() {
+        return jdbc.queryForObject("SELECT name FROM instance", String.class);
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE instance (name VARCHAR(20))");
+        jdbc.update("INSERT INTO instance VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.company.miniproject.monitoring;
+
+import com.company.miniproject.datagen.DatasetGenerator;
+import com.company.miniproject.search.EmployeeNameIndex;
+import com.company.miniproject.security.CustomUserDetailsService;
+import com.company.miniproject.service.DashboardStatsService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets per endpoint, read from the {@link SqlStatementCountFilter} header on an
+ * embedded H2 database seeded by {@link DatasetGenerator}. List pages are requested at two page
+ * sizes: the larger page must not take more statements than the smaller one (no N+1) and must stay
+ * within the endpoint's budget. It may take fewer: a first page that is not full skips the count query.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + SqlStatementBudgetTest.URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "app.security.password-hashing.bcrypt-strength=4"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SqlStatementBudgetTest {
+
+    static final String URL = "jdbc:h2:mem:statementbudget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final int SMALL_PAGE = 5;
+    private static final int LARGE_PAGE = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private EmployeeNameIndex employeeNameIndex;
+
+    private UserDetails admin;
+
+    @BeforeAll
+    void seed() throws Exception {
+        DatasetGenerator.insert(URL, "sa", "", 200, 42);
+        dashboardStatsService.rebuild();
+        employeeNameIndex.rebuild();
+        admin = userDetailsService.loadUserByUsername("admin");
+    }
+
+    /**
+     * Budgets as seen by an admin: the count measured at the larger page plus one, so a single extra
+     * query per page fails. {@code {size}} is replaced by each page size.
+     */
+    Stream<Endpoint> endpoints() {
+        return Stream.of(
+                Endpoint.budget("/", 3),
+                Endpoint.budget("/departments?size={size}", 3),
+                Endpoint.budget("/projects?size={size}", 3),
+                Endpoint.budget("/projects/api?size={size}", 2),
+                Endpoint.budget("/employees?size={size}", 3),
+                Endpoint.budget("/employees?keyword=nguyen&size={size}", 3),
+                Endpoint.budget("/employees/api?size={size}", 2),
+                Endpoint.budget("/employees/lookup?q=nguyen&limit={size}", 2),
+                Endpoint.budget("/departments/1", 2),
+                Endpoint.budget("/projects/1", 3),
+                Endpoint.budget("/accounts?size={size}", 3),
+                Endpoint.budget("/accounts?keyword=nguyen&size={size}", 3),
+                Endpoint.budget("/accounts/api?size={size}", 2));
+    }
+
+    @ParameterizedTest
+    @MethodSource("endpoints")
+    void staysWithinStatementBudget(Endpoint endpoint) throws Exception {
+        // Warm the second-level cache with the larger page, whose rows include the smaller page's,
+        // so both measured requests see the same cached reference data and account roles.
+        statements(endpoint.path(LARGE_PAGE));
+        int small = statements(endpoint.path(SMALL_PAGE));
+        int large = statements(endpoint.path(LARGE_PAGE));
+
+        assertThat(large)
+                .as("SQL statements for %s", endpoint.path(LARGE_PAGE))
+                .isLessThanOrEqualTo(endpoint.maxStatements());
+        assertThat(large)
+                .as("SQL statements for %s compared to %s (per-row queries)",
+                        endpoint.path(LARGE_PAGE), endpoint.path(SMALL_PAGE))
+                .isLessThanOrEqualTo(small);
+    }
+
+    private int statements(String path) throws Exception {
+        String header = mockMvc.perform(get(path).with(user(admin)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(SqlStatementCountFilter.HEADER);
+        assertThat(header).as("%s header on %s", SqlStatementCountFilter.HEADER, path).isNotNull();
+        return Integer.parseInt(header);
+    }
+
+    record Endpoint(String pathTemplate, int maxStatements) {
+
+        static Endpoint budget(String pathTemplate, int maxStatements) {
+            return new Endpoint(pathTemplate, maxStatements);
+        }
+
+        String path(int size) {
+            return pathTemplate.replace("{size}", String.valueOf(size));
+        }
+
+        @Override
+        public String toString() {
+            return pathTemplate;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.company.miniproject.search;
+
+import com.company.miniproject.datagen.DatasetGenerator;
+import com.company.miniproject.entity.Account;
+import com.company.miniproject.entity.Employee;
+import com.company.miniproject.repository.AccountRepository;
+import com.company.miniproject.repository.EmployeeRepository;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyword search means "the accent-folded value contains the folded keyword" on every path: the
+ * in-memory name index, the search-term queries behind the employee and account lists, and a plain
+ * scan of the seeded rows, which is the expected answer. A save whose folded values are unchanged
+ * does not load or rewrite the term rows.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + KeywordSearchTest.URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "app.security.password-hashing.bcrypt-strength=4"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeywordSearchTest {
+
+    static final String URL = "jdbc:h2:mem:keywordsearch;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private EmployeeNameIndex employeeNameIndex;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void seed() throws Exception {
+        DatasetGenerator.insert(URL, "sa", "", 300, 42);
+        employeeNameIndex.rebuild();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"nguyen", "Nguyễn", "uyen", "yen t", "van an", "thi", "ng", "h"})
+    void employeeIndexAndSqlAgreeWithASubstringScan(String keyword) {
+        String needle = SearchText.fold(keyword);
+        List<Integer> expected = jdbc.query("SELECT id, full_name FROM employee ORDER BY id",
+                        (rs, row) -> SearchText.fold(rs.getString("full_name")).contains(needle) ? rs.getInt("id") : null)
+                .stream().filter(Objects::nonNull).toList();
+        assertThat(expected).isNotEmpty();
+
+        List<Integer> viaSql = employeeRepository.searchEmployees(needle, null, Pageable.unpaged())
+                .map(Employee::getId).stream().sorted().toList();
+        assertThat(viaSql).isEqualTo(expected);
+
+        if (employeeNameIndex.canSearch(needle)) {
+            assertThat(employeeNameIndex.search(needle)).isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"admin", "dmi", "company", "min@comp", "y.vn", "nguyen"})
+    void accountSqlAgreesWithASubstringScanOfUsernameAndEmail(String keyword) {
+        String needle = SearchText.fold(keyword);
+        List<Integer> expected = jdbc.query("SELECT id, username, email FROM account ORDER BY id",
+                        (rs, row) -> SearchText.fold(rs.getString("username")).contains(needle)
+                                || SearchText.fold(rs.getString("email")).contains(needle) ? rs.getInt("id") : null)
+                .stream().filter(Objects::nonNull).toList();
+        assertThat(expected).isNotEmpty();
+
+        List<Integer> viaSql = accountRepository.searchAccounts(needle, null, null, Pageable.unpaged())
+                .map(Account::getId).stream().sorted().toList();
+        assertThat(viaSql).isEqualTo(expected);
+    }
+
+    @Test
+    void saveWithTheSameFoldedValuesLeavesTheTermsUnloaded() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // A form save sets every field; here only the phone and the letter case of the name differ.
+            Employee employee = employeeRepository.findById(7).orElseThrow();
+            employee.setFullName(employee.getFullName().toUpperCase());
+            employee.setPhone("0999999907");
+            assertThat(Hibernate.isInitialized(employee.getSearchTerms())).isFalse();
+
+            Account account = employee.getAccount();
+            account.setUsername(account.getUsername());
+            account.setEmail(account.getEmail().toUpperCase());
+            assertThat(Hibernate.isInitialized(account.getSearchTerms())).isFalse();
+        });
+    }
+
+    @Test
+    void renameReplacesTheTermsWithTheNewNamesSuffixes() {
+        String original = jdbc.queryForObject("SELECT full_name FROM employee WHERE id = 8", String.class);
+        rename(8, "Trần Thị Renamed");
+        assertThat(jdbc.queryForList("SELECT term FROM employee_search_term WHERE employee_id = 8", String.class))
+                .containsExactlyInAnyOrderElementsOf(SearchText.suffixes("Trần Thị Renamed"));
+
+        // Back to the seeded name, which the other tests and the name index expect.
+        rename(8, original);
+        assertThat(jdbc.queryForList("SELECT term FROM employee_search_term WHERE employee_id = 8", String.class))
+                .containsExactlyInAnyOrderElementsOf(SearchText.suffixes(original));
+    }
+
+    private void rename(Integer employeeId, String fullName) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                employeeRepository.findById(employeeId).orElseThrow().setFullName(fullName));
+    }
+}
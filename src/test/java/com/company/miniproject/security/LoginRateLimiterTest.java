@@ -0,0 +1,100 @@
+package com.company.miniproject.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-IP and per-username limits of {@link LoginRateLimiter} on the in-memory store, with a clock
+ * the test moves: 3 attempts per minute per IP and 2 per five minutes per username.
+ */
+class LoginRateLimiterTest {
+
+    private static final Duration IP_WINDOW = Duration.ofMinutes(1);
+    private static final Duration USERNAME_WINDOW = Duration.ofMinutes(5);
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void rejectsAnAddressOverItsLimitWhateverTheUsername() {
+        LoginRateLimiter limiter = limiter(true);
+
+        assertThat(limiter.tryAcquire("10.0.0.1", "alice")).isEqualTo(LoginRateLimiter.Decision.ACCEPTED);
+        assertThat(limiter.tryAcquire("10.0.0.1", "bob")).isEqualTo(LoginRateLimiter.Decision.ACCEPTED);
+        assertThat(limiter.tryAcquire("10.0.0.1", "carol")).isEqualTo(LoginRateLimiter.Decision.ACCEPTED);
+        assertThat(limiter.tryAcquire("10.0.0.1", "dave")).isEqualTo(LoginRateLimiter.Decision.REJECTED_BY_IP);
+        assertThat(limiter.tryAcquire("10.0.0.2", "dave")).isEqualTo(LoginRateLimiter.Decision.ACCEPTED);
+        assertThat(limiter.retryAfter(LoginRateLimiter.Decision.REJECTED_BY_IP)).isEqualTo(IP_WINDOW);
+    }
+
+    @Test
+    void rejectsAUsernameOverItsLimitFromAnyAddressIgnoringCase() {
+        LoginRateLimiter limiter = limiter(true);
+
+        assertThat(limiter.tryAcquire("10.0.0.1", "Alice")).isEqualTo(LoginRateLimiter.Decision.ACCEPTED);
+        assertThat(limiter.tryAcquire("10.0.0.2", " alice ")).isEqualTo(LoginRateLimiter.Decision.ACCEPTED);
+        assertThat(limiter.tryAcquire("10.0.0.3", "ALICE")).isEqualTo(LoginRateLimiter.Decision.REJECTED_BY_USERNAME);
+        assertThat(limiter.retryAfter(LoginRateLimiter.Decision.REJECTED_BY_USERNAME)).isEqualTo(USERNAME_WINDOW);
+    }
+
+    @Test
+    void limitsLiftOnceTheWindowHasPassed() {
+        LoginRateLimiter limiter = limiter(true);
+        for (String username : new String[]{"alice", "bob", "carol"}) {
+            limiter.tryAcquire("10.0.0.1", username);
+        }
+        assertThat(limiter.tryAcquire("10.0.0.1", "dave")).isEqualTo(LoginRateLimiter.Decision.REJECTED_BY_IP);
+
+        clock.advance(IP_WINDOW.multipliedBy(2));
+        assertThat(limiter.tryAcquire("10.0.0.1", "dave")).isEqualTo(LoginRateLimiter.Decision.ACCEPTED);
+    }
+
+    @Test
+    void acceptsEverythingWhenDisabled() {
+        LoginRateLimiter limiter = limiter(false);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1", "alice")).isEqualTo(LoginRateLimiter.Decision.ACCEPTED);
+        }
+    }
+
+    private LoginRateLimiter limiter(boolean enabled) {
+        LoginAttemptStore store = new InMemoryLoginAttemptStore(1000, Duration.ofHours(1), clock);
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("loginAttemptStore", store));
+        return new LoginRateLimiter(beans.getBeanProvider(LoginAttemptStore.class), new SimpleMeterRegistry(),
+                enabled, 3, IP_WINDOW, 2, USERNAME_WINDOW, 1000);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.miniproject.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Window arithmetic with explicit timestamps: a one-minute window and a limit of 10.
+ */
+class SlidingWindowCounterTest {
+
+    private static final long WINDOW = 60_000;
+    private static final int LIMIT = 10;
+
+    @Test
+    void acceptsUpToTheLimitWithinOneWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 0);
+
+        assertThat(acquire(counter, LIMIT, 0)).isEqualTo(LIMIT);
+        assertThat(counter.tryAcquire(LIMIT, WINDOW - 1)).isFalse();
+    }
+
+    @Test
+    void previousWindowCountsInProportionToItsOverlap() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 0);
+        acquire(counter, LIMIT, 0);
+
+        // Right after the roll the whole previous window still overlaps the trailing minute.
+        assertThat(counter.tryAcquire(LIMIT, WINDOW)).isFalse();
+        // Halfway through, the previous 10 attempts weigh 5, leaving room for 5 more.
+        assertThat(acquire(counter, LIMIT, WINDOW + WINDOW / 2)).isEqualTo(5);
+    }
+
+    @Test
+    void idleForTwoWindowsStartsFromZero() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 0);
+        acquire(counter, LIMIT, 0);
+
+        assertThat(acquire(counter, LIMIT, 2 * WINDOW)).isEqualTo(LIMIT);
+    }
+
+    @Test
+    void rejectedAttemptsAreNotCounted() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 0);
+        acquire(counter, LIMIT, 0);
+        for (int i = 0; i < 100; i++) {
+            counter.tryAcquire(LIMIT, WINDOW - 1);
+        }
+
+        assertThat(acquire(counter, LIMIT, WINDOW + WINDOW / 2)).isEqualTo(5);
+    }
+
+    /** Attempts at {@code now} until one is rejected; returns how many were accepted. */
+    private static int acquire(SlidingWindowCounter counter, int limit, long now) {
+        int accepted = 0;
+        while (counter.tryAcquire(limit, now)) {
+            accepted++;
+        }
+        return accepted;
+    }
+}
@@ -0,0 +1,169 @@
+package com.company.miniproject.service.impl;
+
+import com.company.miniproject.datagen.DatasetGenerator;
+import com.company.miniproject.dto.EmployeeRegistrationDto;
+import com.company.miniproject.entity.Gender;
+import com.company.miniproject.repository.DashboardStatRepository;
+import com.company.miniproject.service.DashboardStatKeys;
+import com.company.miniproject.service.DashboardStatsService;
+import com.company.miniproject.service.EmployeeService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * dashboard_stat against an embedded H2 database: a transaction's changes are written once per key
+ * when it commits and not at all when it rolls back, the incremental rows equal a rebuild, and a
+ * writer waits while a rebuild holds the rows.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + DashboardStatsTest.URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "app.security.password-hashing.bcrypt-strength=4"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DashboardStatsTest {
+
+    static final String URL = "jdbc:h2:mem:dashboardstats;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private DashboardStatRepository dashboardStatRepository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private TransactionTemplate transactionTemplate;
+
+    private int registrations;
+
+    @BeforeAll
+    void seed(@Autowired PlatformTransactionManager transactionManager) throws Exception {
+        DatasetGenerator.insert(URL, "sa", "", 20, 42);
+        // The generator writes explicit ids, which H2 identity columns do not advance past.
+        for (String table : new String[]{"account", "employee"}) {
+            Integer next = jdbc.queryForObject("SELECT MAX(id) + 1 FROM " + table, Integer.class);
+            jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+        dashboardStatsService.rebuild();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void changesAreWrittenOncePerKeyAtCommitAndMatchARebuild() {
+        long accounts = stat(DashboardStatKeys.ACCOUNTS_TOTAL);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            employeeService.save(registration());
+            employeeService.save(registration());
+            assertThat(stat(DashboardStatKeys.ACCOUNTS_TOTAL)).isEqualTo(accounts);
+        });
+
+        assertThat(stat(DashboardStatKeys.ACCOUNTS_TOTAL)).isEqualTo(accounts + 2);
+        Map<String, Long> incremental = stats();
+        dashboardStatsService.rebuild();
+        assertThat(stats()).isEqualTo(incremental);
+    }
+
+    @Test
+    void rolledBackChangesLeaveTheStatsAlone() {
+        Map<String, Long> before = stats();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            employeeService.save(registration());
+            status.setRollbackOnly();
+        });
+
+        assertThat(stats()).isEqualTo(before);
+    }
+
+    @Test
+    void writerWaitsForTheRebuildHoldingTheRows() throws Exception {
+        long accounts = stat(DashboardStatKeys.ACCOUNTS_TOTAL);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    dashboardStatRepository.lockAll();
+                    locked.countDown();
+                    await(release);
+                }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> employeeService.save(registration()));
+        assertThat(blockedSessionAppears()).as("a session waiting for the locked rows").isTrue();
+        assertThat(writer).isNotDone();
+
+        release.countDown();
+        rebuild.get(10, TimeUnit.SECONDS);
+        writer.get(10, TimeUnit.SECONDS);
+        assertThat(stat(DashboardStatKeys.ACCOUNTS_TOTAL)).isEqualTo(accounts + 1);
+    }
+
+    private long stat(String key) {
+        return jdbc.queryForObject("SELECT stat_value FROM dashboard_stat WHERE stat_key = ?", Long.class, key);
+    }
+
+    private Map<String, Long> stats() {
+        return jdbc.queryForList("SELECT stat_key, stat_value FROM dashboard_stat").stream()
+                .collect(Collectors.toMap(row -> (String) row.get("stat_key"), row -> ((Number) row.get("stat_value")).longValue()));
+    }
+
+    private boolean blockedSessionAppears() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Integer blocked = jdbc.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.sessions WHERE blocker_id IS NOT NULL", Integer.class);
+            if (blocked > 0) {
+                return true;
+            }
+            Thread.sleep(100);
+        }
+        return false;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized EmployeeRegistrationDto registration() {
+        int n = ++registrations;
+        EmployeeRegistrationDto dto = new EmployeeRegistrationDto();
+        dto.setFullName("Stat Employee " + n);
+        dto.setBirthDate(LocalDate.of(1990, 1, 1));
+        dto.setGender(Gender.Female);
+        dto.setPhone(String.format("09100000%02d", n));
+        dto.setDepartmentId(1);
+        dto.setUsername("stat.employee" + n);
+        dto.setEmail("stat.employee" + n + "@company.vn");
+        dto.setPassword("secret1");
+        return dto;
+    }
+}
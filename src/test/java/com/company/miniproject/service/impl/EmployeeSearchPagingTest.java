@@ -0,0 +1,125 @@
+package com.company.miniproject.service.impl;
+
+import com.company.miniproject.datagen.DatasetGenerator;
+import com.company.miniproject.entity.Employee;
+import com.company.miniproject.search.EmployeeNameIndex;
+import com.company.miniproject.search.SearchText;
+import com.company.miniproject.service.EmployeeService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every page of the employee search against a scan of the seeded rows. The small candidate limit
+ * sends common keywords down the large-match path, which pages in accent-folded name order from the
+ * index, selective ones through the id list and keywords shorter than a trigram to the SQL search.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + EmployeeSearchPagingTest.URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "app.security.password-hashing.bcrypt-strength=4",
+        "app.search.employee-index.max-candidates=" + EmployeeSearchPagingTest.MAX_CANDIDATES
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeSearchPagingTest {
+
+    static final String URL = "jdbc:h2:mem:employeesearchpaging;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    static final int MAX_CANDIDATES = 20;
+
+    private static final int SIZE = 7;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeNameIndex employeeNameIndex;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeAll
+    void seed() throws Exception {
+        DatasetGenerator.insert(URL, "sa", "", 300, 42);
+        employeeNameIndex.rebuild();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"nguyen", "thi", "van an", "ng"})
+    void everyMatchOnExactlyOnePage(String keyword) {
+        List<Integer> expected = matchesInFoldedNameOrder(keyword, null);
+        assertThat(expected).isNotEmpty();
+
+        assertThat(allPages(keyword, null, expected.size(), Sort.Direction.ASC))
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void largeMatchSetPagesInFoldedNameOrder() {
+        List<Integer> expected = matchesInFoldedNameOrder("nguyen", null);
+        assertThat(expected).hasSizeGreaterThan(MAX_CANDIDATES);
+
+        assertThat(allPages("nguyen", null, expected.size(), Sort.Direction.ASC)).isEqualTo(expected);
+        assertThat(allPages("nguyen", null, expected.size(), Sort.Direction.DESC)).isEqualTo(expected.reversed());
+    }
+
+    @Test
+    void largeMatchSetWithinADepartment() {
+        Integer departmentId = jdbc.queryForObject(
+                "SELECT department_id FROM employee GROUP BY department_id ORDER BY COUNT(*) DESC LIMIT 1", Integer.class);
+        List<Integer> expected = matchesInFoldedNameOrder("nguyen", departmentId);
+        assertThat(employeeNameIndex.search("nguyen")).hasSizeGreaterThan(MAX_CANDIDATES);
+        assertThat(expected).isNotEmpty();
+
+        assertThat(allPages("nguyen", departmentId, expected.size(), Sort.Direction.ASC)).isEqualTo(expected);
+    }
+
+    private List<Integer> allPages(String keyword, Integer departmentId, int expectedTotal, Sort.Direction direction) {
+        List<Integer> ids = new ArrayList<>();
+        Pageable pageable = PageRequest.of(0, SIZE, Sort.by(direction, "fullName", "id"));
+        Page<Employee> page;
+        do {
+            page = employeeService.searchEmployees(keyword, departmentId, pageable);
+            assertThat(page.getTotalElements()).isEqualTo(expectedTotal);
+            page.forEach(employee -> ids.add(employee.getId()));
+            pageable = pageable.next();
+        } while (page.hasNext());
+        return ids;
+    }
+
+    private List<Integer> matchesInFoldedNameOrder(String keyword, Integer departmentId) {
+        String needle = SearchText.fold(keyword);
+        Map<Integer, String> folded = new HashMap<>();
+        jdbc.query("SELECT id, full_name, department_id FROM employee", rs -> {
+            String name = SearchText.fold(rs.getString("full_name"));
+            if (name.contains(needle) && (departmentId == null || departmentId == rs.getInt("department_id"))) {
+                folded.put(rs.getInt("id"), name);
+            }
+        });
+        return folded.keySet().stream()
+                .sorted(Comparator.comparing((Integer id) -> folded.get(id)).thenComparing(Comparator.naturalOrder()))
+                .toList();
+    }
+}
@@ -0,0 +1,166 @@
+package com.company.miniproject.service.impl;
+
+import com.company.miniproject.datagen.DatasetGenerator;
+import com.company.miniproject.export.ExportFormat;
+import com.company.miniproject.service.ExportService;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every export, in both formats, is parsed back and compared with the same rows read over JDBC:
+ * the header comes first, then one row per record in the export's order with the same values.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ExportServiceTest.URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "app.security.password-hashing.bcrypt-strength=4"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExportServiceTest {
+
+    static final String URL = "jdbc:h2:mem:exportservice;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeAll
+    void seed() throws Exception {
+        DatasetGenerator.insert(URL, "sa", "", 200, 42);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExportFormat.class)
+    void employeesExportHeaderAndEveryRow(ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportEmployees(format, out);
+
+        assertExport(format, out.toByteArray(),
+                List.of("id", "fullName", "birthDate", "gender", "phone", "address", "department", "username", "email", "status"),
+                expectedRows("SELECT e.id, e.full_name, e.birth_date, e.gender, e.phone, e.address, d.name, " +
+                        "a.username, a.email, a.status FROM employee e JOIN account a ON a.id = e.account_id " +
+                        "LEFT JOIN department d ON d.id = e.department_id ORDER BY e.id"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExportFormat.class)
+    void accountsExportHeaderAndEveryRow(ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportAccounts(format, out);
+
+        assertExport(format, out.toByteArray(),
+                List.of("id", "username", "email", "status", "roles"),
+                expectedRows("SELECT a.id, a.username, a.email, a.status, " +
+                        "LISTAGG(r.name, ',') WITHIN GROUP (ORDER BY r.name) FROM account a " +
+                        "LEFT JOIN account_role ar ON ar.account_id = a.id LEFT JOIN role r ON r.id = ar.role_id " +
+                        "GROUP BY a.id, a.username, a.email, a.status ORDER BY a.id"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ExportFormat.class)
+    void projectAssignmentsExportHeaderAndEveryRow(ExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportProjectAssignments(format, out);
+
+        assertExport(format, out.toByteArray(),
+                List.of("id", "project", "projectStatus", "employee", "department", "roleInProject", "joinDate"),
+                expectedRows("SELECT pa.id, p.name, p.status, e.full_name, d.name, pa.role_in_project, pa.join_date " +
+                        "FROM project_assignment pa JOIN project p ON p.id = pa.project_id " +
+                        "JOIN employee e ON e.id = pa.employee_id LEFT JOIN department d ON d.id = e.department_id " +
+                        "ORDER BY p.id, pa.id"));
+    }
+
+    private void assertExport(ExportFormat format, byte[] bytes, List<String> header, List<List<String>> rows)
+            throws IOException {
+        assertThat(rows).isNotEmpty();
+        List<List<String>> parsed = switch (format) {
+            case CSV -> readCsv(bytes);
+            case XLSX -> readXlsx(bytes, header.size());
+        };
+        assertThat(parsed.getFirst()).containsExactlyElementsOf(header);
+        assertThat(parsed.subList(1, parsed.size())).containsExactlyElementsOf(rows);
+    }
+
+    /** Each column as the export renders it: dates as ISO dates, enums by name, null as empty. */
+    private List<List<String>> expectedRows(String sql) {
+        return jdbc.query(sql, (rs, rowNum) -> {
+            int columns = rs.getMetaData().getColumnCount();
+            List<String> row = new ArrayList<>(columns);
+            for (int i = 1; i <= columns; i++) {
+                row.add(Objects.toString(rs.getString(i), ""));
+            }
+            return row;
+        });
+    }
+
+    private static List<List<String>> readCsv(byte[] bytes) throws IOException {
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        assertThat(text).startsWith("\uFEFF");
+        List<List<String>> rows = new ArrayList<>();
+        try (CSVParser parser = CSVFormat.DEFAULT.parse(new StringReader(text.substring(1)))) {
+            for (CSVRecord record : parser) {
+                rows.add(record.toList());
+            }
+        }
+        return rows;
+    }
+
+    private static List<List<String>> readXlsx(byte[] bytes, int columns) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+            assertThat(workbook.getNumberOfSheets()).isEqualTo(1);
+            Sheet sheet = workbook.getSheetAt(0);
+            for (Row row : sheet) {
+                List<String> values = new ArrayList<>(columns);
+                for (int i = 0; i < columns; i++) {
+                    values.add(cellText(row.getCell(i)));
+                }
+                rows.add(values);
+            }
+        }
+        return rows;
+    }
+
+    private static String cellText(Cell cell) {
+        if (cell == null) {
+            return "";
+        }
+        return switch (cell.getCellType()) {
+            case NUMERIC -> DateUtil.isCellDateFormatted(cell)
+                    ? cell.getLocalDateTimeCellValue().toLocalDate().toString()
+                    : String.valueOf((long) cell.getNumericCellValue());
+            default -> cell.getStringCellValue();
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.company.miniproject.service.impl;
+
+import com.company.miniproject.datagen.DatasetGenerator;
+import com.company.miniproject.dto.CursorPage;
+import com.company.miniproject.entity.Employee;
+import com.company.miniproject.service.EmployeeService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Employee keyset pages on an embedded H2 database: following the cursors visits every row once in
+ * (full_name, id) order, and a cursor stays usable after the row it was taken from is renamed or deleted.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + KeysetPaginationTest.URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "app.security.password-hashing.bcrypt-strength=4"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class KeysetPaginationTest {
+
+    static final String URL = "jdbc:h2:mem:keysetpagination;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final int SIZE = 7;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeAll
+    void seed() throws Exception {
+        DatasetGenerator.insert(URL, "sa", "", 60, 42);
+    }
+
+    @Test
+    void followingCursorsVisitsEveryRowOnceInOrder() {
+        List<Integer> expected = jdbc.queryForList("SELECT id FROM employee ORDER BY full_name, id", Integer.class);
+
+        List<Integer> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Employee> page = scroll(cursor);
+            page.getContent().forEach(employee -> visited.add(employee.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(visited).isEqualTo(expected);
+    }
+
+    @Test
+    void cursorSurvivesRenamingOrDeletingItsRow() {
+        CursorPage<Employee> first = scroll(null);
+        Employee last = first.getContent().get(SIZE - 1);
+        List<Integer> secondPage = ids(scroll(first.getNextCursor()));
+
+        jdbc.update("UPDATE employee SET full_name = 'Zz Renamed' WHERE id = ?", last.getId());
+        assertThat(ids(scroll(first.getNextCursor()))).isEqualTo(secondPage);
+
+        jdbc.update("DELETE FROM employee_search_term WHERE employee_id = ?", last.getId());
+        jdbc.update("DELETE FROM project_assignment WHERE employee_id = ?", last.getId());
+        jdbc.update("DELETE FROM employee WHERE id = ?", last.getId());
+        assertThat(ids(scroll(first.getNextCursor()))).isEqualTo(secondPage);
+    }
+
+    @Test
+    void cursorFromAnotherSortOrGarbageIsRejected() {
+        String byName = scroll(null).getNextCursor();
+
+        assertThatThrownBy(() -> employeeService.scrollEmployees(null, null, "phone", Sort.Direction.ASC, byName, SIZE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid page cursor");
+        assertThatThrownBy(() -> scroll("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid page cursor");
+    }
+
+    private CursorPage<Employee> scroll(String cursor) {
+        return employeeService.scrollEmployees(null, null, "fullName", Sort.Direction.ASC, cursor, SIZE);
+    }
+
+    private static List<Integer> ids(CursorPage<Employee> page) {
+        return page.getContent().stream().map(Employee::getId).toList();
+    }
+}
@@ -0,0 +1,122 @@
+package com.company.miniproject.service.impl;
+
+import com.company.miniproject.datagen.DatasetGenerator;
+import com.company.miniproject.dto.EmployeeRegistrationDto;
+import com.company.miniproject.entity.Employee;
+import com.company.miniproject.entity.Gender;
+import com.company.miniproject.service.EmployeeService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Employee writes against an embedded H2 database: duplicates are rejected by the unique keys
+ * with the field messages the forms bind, and an edit from a stale form is refused.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + WriteConflictsTest.URL,
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.show-sql=false",
+        "app.security.password-hashing.bcrypt-strength=4"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WriteConflictsTest {
+
+    static final String URL = "jdbc:h2:mem:writeconflicts;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private String existingPhone;
+
+    @BeforeAll
+    void seed() throws Exception {
+        DatasetGenerator.insert(URL, "sa", "", 20, 42);
+        // The generator writes explicit ids, which H2 identity columns do not advance past.
+        for (String table : new String[]{"account", "employee"}) {
+            Integer next = jdbc.queryForObject("SELECT MAX(id) + 1 FROM " + table, Integer.class);
+            jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+        existingPhone = jdbc.queryForObject("SELECT phone FROM employee WHERE id = 1", String.class);
+    }
+
+    @Test
+    void duplicateUsernameIsReportedOnTheUsernameField() {
+        assertThatThrownBy(() -> employeeService.save(registration("admin", "fresh.one@company.vn", "0900000001")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(WriteConflicts.USERNAME_EXISTS);
+    }
+
+    @Test
+    void duplicateEmailIsReportedOnTheEmailField() {
+        assertThatThrownBy(() -> employeeService.save(registration("fresh.two", "admin@company.vn", "0900000002")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(WriteConflicts.EMAIL_EXISTS);
+    }
+
+    @Test
+    void emailDifferingOnlyInCaseIsADuplicate() {
+        assertThatThrownBy(() -> employeeService.save(registration("fresh.five", " Admin@Company.VN ", "0900000005")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(WriteConflicts.EMAIL_EXISTS);
+
+        employeeService.save(registration("fresh.six", "Fresh.Six@Company.vn", "0900000006"));
+        assertThat(jdbc.queryForObject("SELECT email FROM account WHERE username = 'fresh.six'", String.class))
+                .isEqualTo("fresh.six@company.vn");
+    }
+
+    @Test
+    void duplicatePhoneIsReportedOnThePhoneFieldAndRollsBackTheAccount() {
+        assertThatThrownBy(() -> employeeService.save(registration("fresh.three", "fresh.three@company.vn", existingPhone)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(WriteConflicts.PHONE_EXISTS);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM account WHERE username = 'fresh.three'", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void updateFromAStaleFormIsRejected() {
+        Employee saved = employeeService.save(registration("fresh.four", "fresh.four@company.vn", "0900000004"));
+        EmployeeRegistrationDto edit = registration("fresh.four", "fresh.four@company.vn", "0900000004");
+        edit.setPassword(null);
+        edit.setVersion(saved.getVersion());
+        edit.setAccountVersion(saved.getAccount().getVersion());
+        edit.setFullName("Fresh Four Renamed");
+        employeeService.update(saved.getId(), edit);
+
+        edit.setFullName("Fresh Four Stale");
+        assertThatThrownBy(() -> employeeService.update(saved.getId(), edit))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(jdbc.queryForObject("SELECT full_name FROM employee WHERE id = ?", String.class, saved.getId()))
+                .isEqualTo("Fresh Four Renamed");
+    }
+
+    private static EmployeeRegistrationDto registration(String username, String email, String phone) {
+        EmployeeRegistrationDto dto = new EmployeeRegistrationDto();
+        dto.setFullName("Fresh Employee");
+        dto.setBirthDate(LocalDate.of(1990, 1, 1));
+        dto.setGender(Gender.Male);
+        dto.setPhone(phone);
+        dto.setDepartmentId(1);
+        dto.setUsername(username);
+        dto.setEmail(email);
+        dto.setPassword("secret1");
+        return dto;
+    }
+}